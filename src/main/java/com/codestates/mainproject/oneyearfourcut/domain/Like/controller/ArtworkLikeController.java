@@ -1,16 +1,17 @@
 package com.codestates.mainproject.oneyearfourcut.domain.Like.controller;
 
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeStateRequestDto;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeStateResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.service.ArtworkLikeService;
 import com.codestates.mainproject.oneyearfourcut.global.config.auth.LoginMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
+import javax.validation.Valid;
 import javax.validation.constraints.Positive;
-import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,8 +25,18 @@ public class ArtworkLikeController {
                                             @Positive @PathVariable("gallery-id") Long galleryId,
                                             @Positive @PathVariable("artwork-id") Long artworkId) {
 
-        artworkLikeService.updateArtworkLike(memberId, galleryId, artworkId, LocalDateTime.now());
+        artworkLikeService.updateArtworkLike(memberId, galleryId, artworkId);
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    // 여러 전시관의 작품을 모아 보여주는 피드용 좋아요 수, 좋아요 여부 일괄 조회 (비회원은 좋아요 여부 false)
+    @PostMapping("/likes/state")
+    public ResponseEntity<?> postArtworkLikeState(@LoginMember Long memberId,
+                                                  @Valid @RequestBody ArtworkLikeStateRequestDto requestDto) {
+        List<ArtworkLikeStateResponseDto> response =
+                artworkLikeService.findLikeStateList(memberId, requestDto.getArtworkIds());
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,13 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//좋아요 토글 한 건 (토글 후 상태)
+@Getter
+@AllArgsConstructor
+public class ArtworkLikeLogDto {
+    private long artworkId;
+    private long memberId;
+    private boolean like;
+}
@@ -0,0 +1,20 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ArtworkLikeStateRequestDto {
+    @NotNull(message = "작품 id 목록은 필수 입력 값입니다.")
+    private List<Long> artworkIds;
+
+    @Builder    //테스트코드용 생성자
+    public ArtworkLikeStateRequestDto(List<Long> artworkIds) {
+        this.artworkIds = artworkIds;
+    }
+}
@@ -0,0 +1,24 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.dto;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.LikeStatus;
+import lombok.Getter;
+
+@Getter
+public class ArtworkLikeStateResponseDto {
+    private Long artworkId;
+    private int likeCount;
+    private boolean liked;
+
+    //ArtworkLikeRepository.findLikeStateList 조회용 (좋아요 행이 없으면 status는 null)
+    public ArtworkLikeStateResponseDto(Long artworkId, int likeCount, LikeStatus status) {
+        this.artworkId = artworkId;
+        this.likeCount = likeCount;
+        this.liked = status == LikeStatus.LIKE;
+    }
+
+    //저장 대기 중인 토글까지 반영된 인덱스 값으로 덮어씀
+    public void updateLikeState(int likeCount, boolean liked) {
+        this.likeCount = likeCount;
+        this.liked = liked;
+    }
+}
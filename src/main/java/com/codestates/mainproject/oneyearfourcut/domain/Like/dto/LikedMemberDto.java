@@ -0,0 +1,11 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LikedMemberDto {
+    private Long artworkId;
+    private Long memberId;
+}
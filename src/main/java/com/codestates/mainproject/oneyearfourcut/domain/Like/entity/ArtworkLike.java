@@ -1,7 +1,5 @@
 package com.codestates.mainproject.oneyearfourcut.domain.Like.entity;
 
-import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
-import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEvent;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
@@ -11,9 +9,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
-import java.time.LocalDateTime;
 
+//운영 DB에는 유니크 제약 추가 전에 중복 행 정리가 필요함 (db/migration/artwork_like_unique.sql)
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_artwork_like_member_artwork", columnNames = {"MEMBER_ID", "ARTWORK_ID"})
+}, indexes = {
+        @Index(name = "idx_artwork_like_artwork_status", columnList = "ARTWORK_ID, status, MEMBER_ID")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ArtworkLike extends Auditable {
@@ -32,43 +35,18 @@ public class ArtworkLike extends Auditable {
     @Enumerated(EnumType.STRING)
     private LikeStatus status = LikeStatus.LIKE;
 
+    //회원, 작품의 좋아요 컬렉션에 추가하지 않음 (추가하면 지금까지의 좋아요를 전부 지연 로딩함)
     @Builder
     public ArtworkLike(Member member, Artwork artwork) {
-        setMember(member);
-        setArtwork(artwork);
+        this.member = member;
+        this.artwork = artwork;
     }
 
     public boolean isLike() {
         return this.status.equals(LikeStatus.LIKE);
     }
 
-    private void setMember(Member member) {
-        if (this.member != null) {
-            member.getArtworkLikeList().remove(this);
-        }
-        this.member = member;
-        member.getArtworkLikeList().add(this);
-    }
-
-    private void setArtwork(Artwork artwork) {
-        if (this.artwork != null) {
-            this.artwork.getArtworkLikeList().remove(this);
-        }
-        this.artwork = artwork;
-        artwork.getArtworkLikeList().add(this);
-    }
-
     public void setStatus(LikeStatus status) {
         this.status = status;
     }
-
-    public AlarmEvent toAlarmEvent(Long receiverId) {
-        return AlarmEvent.builder()
-                .receiverId(receiverId)
-                .senderId(this.getMember().getMemberId())
-                .alarmType(AlarmType.LIKE_ARTWORK)
-                .galleryId(this.getArtwork().getGallery().getGalleryId())
-                .artworkId(this.getArtwork().getArtworkId())
-                .build();
-    }
 }
@@ -0,0 +1,25 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.event;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.LikeStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class ArtworkLikeEvent {
+    private final Long galleryId;
+    private final Long artworkId;
+    private final Long memberId;
+    private final LikeStatus status;
+
+    @Builder
+    public ArtworkLikeEvent(Long galleryId, Long artworkId, Long memberId, LikeStatus status) {
+        this.galleryId = galleryId;
+        this.artworkId = artworkId;
+        this.memberId = memberId;
+        this.status = status;
+    }
+
+    public boolean isLike() {
+        return this.status == LikeStatus.LIKE;
+    }
+}
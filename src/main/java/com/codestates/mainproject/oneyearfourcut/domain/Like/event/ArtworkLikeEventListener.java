@@ -0,0 +1,30 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.event;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeIndexRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEventType;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.OneYearFourCutRankingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ArtworkLikeEventListener {
+    private final OneYearFourCutRankingRepository oneYearFourCutRankingRepository;
+    private final ArtworkLikeIndexRepository artworkLikeIndexRepository;
+
+    //좋아요 토글은 트랜잭션 없이 메모리에 먼저 반영되므로 트랜잭션이 없으면 바로 처리
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleArtworkLikeEvent(ArtworkLikeEvent event) {
+        oneYearFourCutRankingRepository.refreshLikeCount(event.getGalleryId(), event.getArtworkId());
+    }
+
+    //삭제가 커밋된 뒤에만 좋아요 인덱스에서 제거 (롤백되면 저장 대기 중인 토글이 든 비트맵을 그대로 유지)
+    @TransactionalEventListener
+    public void handleArtworkEvent(ArtworkEvent event) {
+        if (event.getType() == ArtworkEventType.DELETE) {
+            artworkLikeIndexRepository.evict(event.getArtworkId());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ArtworkLikeEventPublisher {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publishArtworkLikeEvent(ArtworkLikeEvent artworkLikeEvent) {
+        applicationEventPublisher.publishEvent(artworkLikeEvent);
+    }
+}
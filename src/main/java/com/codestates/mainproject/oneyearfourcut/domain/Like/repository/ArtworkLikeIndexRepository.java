@@ -0,0 +1,193 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.LikedMemberDto;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.LikeStatus;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 작품별 좋아요(LIKE) 회원 id를 압축 비트맵으로 들고 있는 메모리 인덱스
+ * - 작품 단위로 처음 조회될 때 artwork_like 테이블에서 적재한다.
+ * - 적재 이후에는 좋아요 토글로만 갱신하며, 토글은 DB 저장보다 먼저 반영된다. (ArtworkLikeWriteBuffer)
+ * - 비트맵은 복사하지 않고 그 자리에서 고치며, 작품 id로 나눈 락(쓰기는 토글, 읽기는 조회)으로 보호한다.
+ *   한 작품에 토글이 몰려도 토글 비용은 좋아요 수와 상관없이 일정하고, 다른 작품의 토글은 막지 않는다.
+ */
+@Component
+public class ArtworkLikeIndexRepository {
+    private static final int LOCK_STRIPES = 64;
+
+    private final ArtworkLikeRepository artworkLikeRepository;
+
+    private final Map<Long, RoaringBitmap> likeIndex = new ConcurrentHashMap<>();
+    private final ReadWriteLock[] locks = new ReadWriteLock[LOCK_STRIPES];
+
+    //적재 도중 토글이 들어왔는지 확인하기 위한 변경 횟수
+    private final AtomicLong modifiedCount = new AtomicLong();
+
+    public ArtworkLikeIndexRepository(ArtworkLikeRepository artworkLikeRepository) {
+        this.artworkLikeRepository = artworkLikeRepository;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    public boolean isLiked(long artworkId, long memberId) {
+        if (memberId == -1) {
+            return false;
+        }
+        int index = toIndex(memberId);
+        return read(artworkId, findBitmaps(List.of(artworkId)).get(artworkId), bitmap -> bitmap.contains(index));
+    }
+
+    //memberId 회원이 artworkIds 중 좋아요 누른 작품 id 목록
+    public Set<Long> findLikedArtworkIds(long memberId, Collection<Long> artworkIds) {
+        if (memberId == -1 || artworkIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        int index = toIndex(memberId);
+        Set<Long> likedArtworkIds = new HashSet<>();
+        findBitmaps(artworkIds).forEach((artworkId, bitmap) -> {
+            if (read(artworkId, bitmap, loaded -> loaded.contains(index))) {
+                likedArtworkIds.add(artworkId);
+            }
+        });
+        return likedArtworkIds;
+    }
+
+    public int getLikeCount(long artworkId) {
+        return read(artworkId, findBitmaps(List.of(artworkId)).get(artworkId), RoaringBitmap::getCardinality);
+    }
+
+    //이미 적재된 작품 중 요청한 작품의 좋아요 수 (적재되지 않은 작품은 저장 대기 중인 토글이 없어 DB 값이 정확함)
+    public Map<Long, Integer> findLoadedLikeCounts(Collection<Long> artworkIds) {
+        Map<Long, Integer> likeCounts = new HashMap<>();
+        for (Long artworkId : artworkIds) {
+            RoaringBitmap bitmap = likeIndex.get(artworkId);
+            if (bitmap != null) {
+                likeCounts.put(artworkId, read(artworkId, bitmap, RoaringBitmap::getCardinality));
+            }
+        }
+        return likeCounts;
+    }
+
+    //이미 적재된 작품 중 요청한 작품에 대한 회원의 좋아요 여부
+    public Map<Long, Boolean> findLoadedLiked(long memberId, Collection<Long> artworkIds) {
+        Map<Long, Boolean> liked = new HashMap<>();
+        for (Long artworkId : artworkIds) {
+            RoaringBitmap bitmap = likeIndex.get(artworkId);
+            if (bitmap != null) {
+                liked.put(artworkId, memberId != -1 && read(artworkId, bitmap, loaded -> loaded.contains(toIndex(memberId))));
+            }
+        }
+        return liked;
+    }
+
+    //토글 전에 락 밖에서 작품을 적재 (DB 조회가 토글 락이나 버퍼의 맵 버킷을 잡은 채로 실행되지 않도록)
+    public void prepareToggle(long artworkId) {
+        if (!likeIndex.containsKey(artworkId)) {
+            likeIndex.putIfAbsent(artworkId, loadBitmap(artworkId));
+        }
+    }
+
+    //회원의 좋아요 상태를 뒤집고 바뀐 상태를 반환 (적재되지 않은 작품은 먼저 적재)
+    //토글은 적재된 비트맵에만 적용되므로, 적재되지 않은 작품은 DB에 반영되지 않은 토글이 없다.
+    public boolean toggle(long artworkId, long memberId) {
+        int index = toIndex(memberId);
+        modifiedCount.incrementAndGet();
+        ReadWriteLock lock = lockOf(artworkId);
+        while (true) {
+            prepareToggle(artworkId);
+            lock.writeLock().lock();
+            try {
+                RoaringBitmap bitmap = likeIndex.get(artworkId);
+                if (bitmap == null) {   //적재와 락 사이에 evict 되었으면 다시 적재
+                    continue;
+                }
+                if (bitmap.checkedAdd(index)) {
+                    return true;
+                }
+                bitmap.remove(index);
+                return false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public void evict(long artworkId) {
+        modifiedCount.incrementAndGet();
+        likeIndex.remove(artworkId);
+    }
+
+    private Map<Long, RoaringBitmap> findBitmaps(Collection<Long> artworkIds) {
+        Map<Long, RoaringBitmap> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long artworkId : artworkIds) {
+            RoaringBitmap bitmap = likeIndex.get(artworkId);
+            if (bitmap == null) {
+                missingIds.add(artworkId);
+            } else {
+                result.put(artworkId, bitmap);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            result.putAll(load(missingIds));
+        }
+        return result;
+    }
+
+    private Map<Long, RoaringBitmap> load(List<Long> artworkIds) {
+        long countBeforeLoad = modifiedCount.get();
+
+        Map<Long, RoaringBitmap> loaded = new HashMap<>();
+        artworkIds.forEach(artworkId -> loaded.put(artworkId, new RoaringBitmap()));
+        for (LikedMemberDto likedMember : artworkLikeRepository.findLikedMemberList(artworkIds, LikeStatus.LIKE)) {
+            loaded.get(likedMember.getArtworkId()).add(toIndex(likedMember.getMemberId()));
+        }
+
+        loaded.forEach((artworkId, bitmap) -> {
+            bitmap.runOptimize();
+            //조회 도중 토글이 있었다면 조회 결과가 오래된 것일 수 있으므로 캐시하지 않음
+            likeIndex.compute(artworkId, (id, present) -> {
+                if (present != null) {
+                    return present;
+                }
+                return modifiedCount.get() == countBeforeLoad ? bitmap : null;
+            });
+        });
+        return loaded;
+    }
+
+    private RoaringBitmap loadBitmap(long artworkId) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        artworkLikeRepository.findLikedMemberList(List.of(artworkId), LikeStatus.LIKE)
+                .forEach(likedMember -> bitmap.add(toIndex(likedMember.getMemberId())));
+        return bitmap;
+    }
+
+    //적재된 비트맵은 토글이 그 자리에서 고치므로 읽을 때도 같은 작품의 락을 잡음
+    private <T> T read(long artworkId, RoaringBitmap bitmap, Function<RoaringBitmap, T> reader) {
+        ReadWriteLock lock = lockOf(artworkId);
+        lock.readLock().lock();
+        try {
+            return reader.apply(bitmap);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ReadWriteLock lockOf(long artworkId) {
+        return locks[Math.floorMod(Long.hashCode(artworkId), LOCK_STRIPES)];
+    }
+
+    private int toIndex(long memberId) {
+        return Math.toIntExact(memberId);
+    }
+}
@@ -0,0 +1,197 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeLogDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 아직 DB에 저장되지 않은 좋아요 토글을 파일에 이어 쓰는 로그
+ * - 토글마다 "artworkId,memberId,1|0" 한 줄을 버퍼 없이 바로 쓰기 때문에 프로세스가 죽어도 남는다. (fsync 옵션을 켜면 OS 장애까지)
+ * - 작품 id로 나눈 여러 파일(stripe)에 나눠 써서 서로 다른 작품의 토글은 같은 락과 fsync를 기다리지 않는다.
+ *   같은 (작품, 회원)의 토글은 항상 같은 파일에 순서대로 남는다.
+ * - flush 직전에 새 파일로 교체하고, 저장이 끝난 파일은 지운다. 재시작 때 남은 파일은 저장되지 못한 토글이다.
+ * - like.log.path가 비어 있으면 기록하지 않는다. (flush 주기만큼 유실 가능)
+ * - 상대 경로는 실행 위치에 따라 복구할 파일을 놓칠 수 있어 시작할 때 거부한다.
+ */
+@Slf4j
+@Component
+public class ArtworkLikeLogRepository {
+    private static final String SEGMENT_PREFIX = "artwork-like-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final boolean fsync;
+    private final Stripe[] stripes;
+    private final AtomicLong segmentSequence;
+
+    public ArtworkLikeLogRepository(@Value("${like.log.path:}") String path,
+                                    @Value("${like.log.fsync:false}") boolean fsync,
+                                    @Value("${like.log.stripes:8}") int stripeCount) {
+        this.directory = path.isBlank() ? null : Paths.get(path);
+        if (directory != null && !directory.isAbsolute()) {
+            throw new IllegalStateException("like.log.path는 절대 경로여야 합니다 : " + path);
+        }
+        this.fsync = fsync;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.segmentSequence = new AtomicLong(System.currentTimeMillis());
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    //다른 stripe의 기록과는 서로 기다리지 않음 (flush의 rotate와는 ArtworkLikeWriteBuffer의 drain 락으로 나뉨)
+    public void append(long artworkId, long memberId, boolean like) {
+        if (!isEnabled()) {
+            return;
+        }
+        String line = artworkId + "," + memberId + "," + (like ? 1 : 0) + "\n";
+        Stripe stripe = stripes[Math.floorMod(Long.hashCode(artworkId), stripes.length)];
+        synchronized (stripe) {
+            try {
+                if (stripe.channel == null) {
+                    openSegment(stripe);
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.US_ASCII));
+                while (buffer.hasRemaining()) {
+                    stripe.channel.write(buffer);
+                }
+                if (fsync) {
+                    stripe.channel.force(false);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("좋아요 로그 기록 실패", e);
+            }
+        }
+    }
+
+    //기록 중인 파일을 모두 닫고 반환 (다음 기록부터 새 파일), 기록이 없던 stripe는 제외
+    public List<Path> rotate() {
+        List<Path> closedSegments = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.channel == null) {
+                    continue;
+                }
+                closeChannel(stripe);
+                closedSegments.add(stripe.segment);
+                stripe.segment = null;
+            }
+        }
+        return closedSegments;
+    }
+
+    //이전 실행에서 남은 파일까지 포함해 기록 순서대로 반환
+    public List<Path> findSegments() {
+        if (!isEnabled() || !Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        Set<Path> openSegments = new HashSet<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.segment != null) {
+                    openSegments.add(stripe.segment);
+                }
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(file -> !openSegments.contains(file))
+                    .sorted(Comparator.comparingLong(this::toSequence))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("좋아요 로그 목록 조회 실패", e);
+        }
+    }
+
+    //마지막 줄이 기록 도중 잘렸으면 무시
+    public List<ArtworkLikeLogDto> read(Path segment) {
+        try (Stream<String> lines = Files.lines(segment, StandardCharsets.US_ASCII)) {
+            List<ArtworkLikeLogDto> logs = new ArrayList<>();
+            lines.forEach(line -> {
+                String[] values = line.split(",");
+                if (values.length != 3 || values[2].isEmpty()) {
+                    return;
+                }
+                logs.add(new ArtworkLikeLogDto(Long.parseLong(values[0]), Long.parseLong(values[1]),
+                        "1".equals(values[2])));
+            });
+            return logs;
+        } catch (IOException e) {
+            throw new UncheckedIOException("좋아요 로그 읽기 실패 : " + segment, e);
+        }
+    }
+
+    public void delete(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("좋아요 로그 삭제 실패 : {}", segment, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                closeChannel(stripe);
+            }
+        }
+    }
+
+    private void openSegment(Stripe stripe) throws IOException {
+        Files.createDirectories(directory);
+        stripe.segment = directory.resolve(SEGMENT_PREFIX + segmentSequence.getAndIncrement() + SEGMENT_SUFFIX);
+        stripe.channel = FileChannel.open(stripe.segment,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void closeChannel(Stripe stripe) {
+        if (stripe.channel == null) {
+            return;
+        }
+        try {
+            stripe.channel.force(false);
+            stripe.channel.close();
+        } catch (IOException e) {
+            log.warn("좋아요 로그 닫기 실패 : {}", stripe.segment, e);
+        }
+        stripe.channel = null;
+    }
+
+    private long toSequence(Path segment) {
+        String fileName = segment.getFileName().toString();
+        try {
+            return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    //stripe별 기록 중인 파일 (stripe 객체로 동기화)
+    private static class Stripe {
+        private FileChannel channel;
+        private Path segment;
+    }
+}
@@ -1,13 +1,19 @@
 package com.codestates.mainproject.oneyearfourcut.domain.Like.repository;
 
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeStateResponseDto;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.LikedMemberDto;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.ArtworkLike;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.LikeStatus;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArtworkLikeRepository extends JpaRepository<ArtworkLike, Long> {
@@ -16,4 +22,20 @@ public interface ArtworkLikeRepository extends JpaRepository<ArtworkLike, Long>
 
     Boolean existsByMember_MemberIdAndArtwork_ArtworkIdAndStatus(Long memberId, Long artworkId, LikeStatus status);
 
+    //좋아요 인덱스 적재용 (엔티티 대신 id 쌍만 조회)
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.Like.dto.LikedMemberDto(v.artwork.artworkId, v.member.memberId)" +
+            " FROM ArtworkLike v" +
+            " WHERE v.artwork.artworkId IN :artworkIds AND v.status = :status")
+    List<LikedMemberDto> findLikedMemberList(@Param("artworkIds") Collection<Long> artworkIds,
+                                             @Param("status") LikeStatus status);
+
+    //열린 전시관 작품의 좋아요 수와 회원의 좋아요 상태를 한 번에 조회 ((회원, 작품) 유니크 인덱스로 조인)
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeStateResponseDto(a.artworkId, a.likeCount, v.status)" +
+            " FROM Artwork a JOIN a.gallery g" +
+            " LEFT JOIN ArtworkLike v ON v.artwork = a AND v.member.memberId = :memberId" +
+            " WHERE a.artworkId IN :artworkIds AND g.status = :galleryStatus")
+    List<ArtworkLikeStateResponseDto> findLikeStateList(@Param("memberId") long memberId,
+                                                        @Param("artworkIds") Collection<Long> artworkIds,
+                                                        @Param("galleryStatus") GalleryStatus galleryStatus);
+
 }
@@ -0,0 +1,130 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeLogDto;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좋아요 토글을 DB보다 메모리에 먼저 반영하고 저장할 변경을 모아두는 버퍼 (write-behind)
+ * - 토글은 좋아요 인덱스에 바로 반영되어, 토글한 회원은 저장 전에도 바뀐 상태와 좋아요 수를 본다.
+ * - (작품, 회원)별 마지막 상태와 작품별 좋아요 수 증감(LongAdder)만 들고 있다가 flush 때 한 번에 꺼낸다.
+ * - 토글마다 로그 파일에도 남겨서, 저장 전에 서버가 죽으면 재시작 때 로그로 복구한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArtworkLikeWriteBuffer {
+    private final ArtworkLikeIndexRepository artworkLikeIndexRepository;
+    private final ArtworkLikeLogRepository artworkLikeLogRepository;
+
+    //토글은 읽기 락, 버퍼를 꺼낼 때는 쓰기 락 (꺼낸 변경과 교체한 로그 파일의 범위를 맞추기 위함)
+    private final ReadWriteLock drainLock = new ReentrantReadWriteLock();
+
+    private volatile Map<LikeKey, Boolean> pendingLikes = new ConcurrentHashMap<>();
+    private volatile Map<Long, LongAdder> pendingLikeCounts = new ConcurrentHashMap<>();
+    private final List<Path> pendingSegments = new ArrayList<>();
+
+    //토글 후 상태 반환 (true면 좋아요)
+    public boolean toggle(long artworkId, long memberId) {
+        LikeKey key = new LikeKey(artworkId, memberId);
+        boolean[] result = new boolean[1];
+        artworkLikeIndexRepository.prepareToggle(artworkId);
+
+        drainLock.readLock().lock();
+        try {
+            //같은 회원의 연속 토글이 인덱스, 로그, 버퍼에 같은 순서로 남도록 (작품, 회원) 단위로 묶어서 처리
+            //묶인 구간에서는 비트 하나 바꾸기와 로그 한 줄 쓰기만 하므로 (작품 적재는 위에서 미리 함) 짧게 끝남
+            pendingLikes.compute(key, (k, before) -> {
+                boolean like = artworkLikeIndexRepository.toggle(artworkId, memberId);
+                try {
+                    artworkLikeLogRepository.append(artworkId, memberId, like);
+                } catch (RuntimeException e) {
+                    artworkLikeIndexRepository.toggle(artworkId, memberId);
+                    throw e;
+                }
+                pendingLikeCounts.computeIfAbsent(artworkId, id -> new LongAdder()).add(like ? 1 : -1);
+                result[0] = like;
+                return like;
+            });
+        } finally {
+            drainLock.readLock().unlock();
+        }
+        return result[0];
+    }
+
+    //저장할 변경을 꺼내고 버퍼를 비움
+    public Snapshot drain() {
+        drainLock.writeLock().lock();
+        try {
+            Map<LikeKey, Boolean> likes = pendingLikes;
+            Map<Long, LongAdder> likeCounts = pendingLikeCounts;
+            pendingLikes = new ConcurrentHashMap<>();
+            pendingLikeCounts = new ConcurrentHashMap<>();
+
+            pendingSegments.addAll(artworkLikeLogRepository.rotate());
+            List<Path> segments = new ArrayList<>(pendingSegments);
+            pendingSegments.clear();
+
+            return new Snapshot(likes, likeCounts, segments);
+        } finally {
+            drainLock.writeLock().unlock();
+        }
+    }
+
+    //저장에 실패한 변경을 되돌려 다음 flush 때 다시 저장 (꺼낸 이후의 토글이 더 최신이므로 덮어쓰지 않음)
+    public void restore(Snapshot snapshot) {
+        drainLock.writeLock().lock();
+        try {
+            snapshot.likes.forEach(pendingLikes::putIfAbsent);
+            snapshot.likeCounts.forEach((artworkId, delta) ->
+                    pendingLikeCounts.computeIfAbsent(artworkId, id -> new LongAdder()).add(delta));
+            pendingSegments.addAll(0, snapshot.segments);
+        } finally {
+            drainLock.writeLock().unlock();
+        }
+    }
+
+    public static class Snapshot {
+        private final Map<LikeKey, Boolean> likes;
+        @Getter
+        private final Map<Long, Long> likeCounts = new HashMap<>();
+        @Getter
+        private final List<Path> segments;
+
+        private Snapshot(Map<LikeKey, Boolean> likes, Map<Long, LongAdder> likeCounts, List<Path> segments) {
+            this.likes = likes;
+            this.segments = segments;
+            likeCounts.forEach((artworkId, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    this.likeCounts.put(artworkId, delta);
+                }
+            });
+        }
+
+        public boolean isEmpty() {
+            return likes.isEmpty() && likeCounts.isEmpty();
+        }
+
+        public List<ArtworkLikeLogDto> getLikeList() {
+            List<ArtworkLikeLogDto> likeList = new ArrayList<>();
+            likes.forEach((key, like) -> likeList.add(new ArtworkLikeLogDto(key.artworkId, key.memberId, like)));
+            return likeList;
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class LikeKey {
+        private final long artworkId;
+        private final long memberId;
+    }
+}
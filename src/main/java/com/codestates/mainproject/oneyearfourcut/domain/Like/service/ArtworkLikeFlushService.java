@@ -0,0 +1,161 @@
+package com.codestates.mainproject.oneyearfourcut.domain.Like.service;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeLogDto;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.LikeStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeLogRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeWriteBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 버퍼에 모인 좋아요 토글을 주기적으로 DB에 저장
+ * - (작품, 회원)별 최종 상태와 작품별 좋아요 수 증감만 JDBC 배치로 한 트랜잭션에 반영한다.
+ * - 저장에 실패하면 버퍼로 되돌려 다음 주기에 다시 저장하고, 로그 파일도 저장에 성공한 뒤에만 지운다.
+ * - 서버 시작 시 남아 있는 로그 파일(저장 전에 종료된 토글)을 먼저 반영한다.
+ */
+@Slf4j
+@Service
+public class ArtworkLikeFlushService implements SmartInitializingSingleton {
+    //MERGE, ON DUPLICATE KEY 같은 DB별 upsert 대신 H2, MySQL/MariaDB 모두에서 동작하는 삽입 + 수정 두 문장으로 저장
+    //(회원, 작품) 유니크 제약이 있어 행은 하나만 생기고, 작품, 회원이 삭제된 뒤에 저장되는 토글은 외래키 오류 대신 무시
+    private static final String INSERT_LIKE_SQL =
+            "INSERT INTO artwork_like (artwork_id, member_id, status, created_at, last_modified_at)" +
+            " SELECT a.artwork_id, m.member_id, ?, ?, ? FROM artwork a, member m" +
+            " WHERE a.artwork_id = ? AND m.member_id = ?" +
+            " AND NOT EXISTS (SELECT 1 FROM artwork_like v WHERE v.artwork_id = ? AND v.member_id = ?)";
+    private static final String UPDATE_LIKE_SQL =
+            "UPDATE artwork_like SET status = ?, last_modified_at = ? WHERE artwork_id = ? AND member_id = ?";
+    private static final String UPDATE_LIKE_COUNT_SQL =
+            "UPDATE artwork SET like_count = like_count + ? WHERE artwork_id = ?";
+    //복구할 때는 이미 저장된 토글인지 알 수 없으므로 증감 대신 다시 집계
+    private static final String SYNC_LIKE_COUNT_SQL =
+            "UPDATE artwork SET like_count = (SELECT COUNT(*) FROM artwork_like v" +
+            " WHERE v.artwork_id = artwork.artwork_id AND v.status = 'LIKE') WHERE artwork_id = ?";
+
+    private final ArtworkLikeWriteBuffer artworkLikeWriteBuffer;
+    private final ArtworkLikeLogRepository artworkLikeLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ArtworkLikeFlushService(ArtworkLikeWriteBuffer artworkLikeWriteBuffer,
+                                   ArtworkLikeLogRepository artworkLikeLogRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${like.flush.batch-size:500}") int batchSize) {
+        this.artworkLikeWriteBuffer = artworkLikeWriteBuffer;
+        this.artworkLikeLogRepository = artworkLikeLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${like.flush.interval-millis:1000}",
+            initialDelayString = "${like.flush.interval-millis:1000}")
+    public synchronized void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        ArtworkLikeWriteBuffer.Snapshot snapshot = artworkLikeWriteBuffer.drain();
+        if (!snapshot.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    saveLikes(snapshot.getLikeList(), now);
+                    saveLikeCounts(snapshot.getLikeCounts());
+                });
+            } catch (RuntimeException e) {
+                log.warn("좋아요 저장 실패, 다음 주기에 다시 저장 : {}건", snapshot.getLikeList().size(), e);
+                artworkLikeWriteBuffer.restore(snapshot);
+                return;
+            }
+        }
+        artworkLikeLogRepository.delete(snapshot.getSegments());
+    }
+
+    //정상 종료 시 남은 토글 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("종료 전 좋아요 저장 실패, 로그 파일로 다음 시작 때 복구", e);
+        }
+    }
+
+    //요청을 받기 전(웹 서버 시작 전)에 이전 실행에서 저장하지 못한 토글을 반영
+    @Override
+    public void afterSingletonsInstantiated() {
+        recover();
+    }
+
+    public synchronized void recover() {
+        List<Path> segments = artworkLikeLogRepository.findSegments();
+        if (segments.isEmpty()) {
+            return;
+        }
+        //같은 (작품, 회원)은 마지막 토글만 반영
+        Map<String, ArtworkLikeLogDto> lastLikes = new LinkedHashMap<>();
+        for (Path segment : segments) {
+            artworkLikeLogRepository.read(segment)
+                    .forEach(like -> lastLikes.put(like.getArtworkId() + ":" + like.getMemberId(), like));
+        }
+        List<ArtworkLikeLogDto> likeList = new ArrayList<>(lastLikes.values());
+        Set<Long> artworkIds = likeList.stream()
+                .map(ArtworkLikeLogDto::getArtworkId)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                saveLikes(likeList, LocalDateTime.now());
+                jdbcTemplate.batchUpdate(SYNC_LIKE_COUNT_SQL, new ArrayList<>(artworkIds), batchSize,
+                        (ps, artworkId) -> ps.setLong(1, artworkId));
+            });
+        } catch (RuntimeException e) {
+            log.error("좋아요 로그 복구 실패, 로그 파일 유지 : {}", segments, e);
+            return;
+        }
+        log.info("좋아요 로그 복구 : 토글 {}건, 작품 {}개", likeList.size(), artworkIds.size());
+        artworkLikeLogRepository.delete(segments);
+    }
+
+    private void saveLikes(List<ArtworkLikeLogDto> likeList, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, likeList, batchSize, (ps, like) -> {
+            ps.setString(1, toStatus(like));
+            ps.setTimestamp(2, timestamp);
+            ps.setTimestamp(3, timestamp);
+            ps.setLong(4, like.getArtworkId());
+            ps.setLong(5, like.getMemberId());
+            ps.setLong(6, like.getArtworkId());
+            ps.setLong(7, like.getMemberId());
+        });
+        jdbcTemplate.batchUpdate(UPDATE_LIKE_SQL, likeList, batchSize, (ps, like) -> {
+            ps.setString(1, toStatus(like));
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, like.getArtworkId());
+            ps.setLong(4, like.getMemberId());
+        });
+    }
+
+    private void saveLikeCounts(Map<Long, Long> likeCounts) {
+        jdbcTemplate.batchUpdate(UPDATE_LIKE_COUNT_SQL, new ArrayList<>(likeCounts.entrySet()), batchSize,
+                (ps, likeCount) -> {
+                    ps.setLong(1, likeCount.getValue());
+                    ps.setLong(2, likeCount.getKey());
+                });
+    }
+
+    private String toStatus(ArtworkLikeLogDto like) {
+        return (like.isLike() ? LikeStatus.LIKE : LikeStatus.CANCEL).name();
+    }
+}
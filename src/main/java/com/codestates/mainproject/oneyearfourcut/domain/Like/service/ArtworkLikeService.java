@@ -1,71 +1,111 @@
 package com.codestates.mainproject.oneyearfourcut.domain.Like.service;
 
-import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.ArtworkLike;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeStateResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.LikeStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.event.ArtworkLikeEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.event.ArtworkLikeEventPublisher;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeIndexRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeWriteBuffer;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEvent;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEventPublisher;
-import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkLikeTargetDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.service.ArtworkService;
-import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
-import com.codestates.mainproject.oneyearfourcut.domain.member.service.MemberService;
-import lombok.RequiredArgsConstructor;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
-@Transactional
 public class ArtworkLikeService {
-
-    private final ArtworkLikeRepository artworkLikeRepository;
     private final ArtworkService artworkService;
-    private final MemberService memberService;
+    private final ArtworkLikeWriteBuffer artworkLikeWriteBuffer;
+    private final ArtworkLikeRepository artworkLikeRepository;
+    private final ArtworkLikeIndexRepository artworkLikeIndexRepository;
     private final AlarmEventPublisher alarmEventPublisher;
+    private final ArtworkLikeEventPublisher artworkLikeEventPublisher;
+    private final int maxStateSize;
+
+    public ArtworkLikeService(ArtworkService artworkService,
+                              ArtworkLikeWriteBuffer artworkLikeWriteBuffer,
+                              ArtworkLikeRepository artworkLikeRepository,
+                              ArtworkLikeIndexRepository artworkLikeIndexRepository,
+                              AlarmEventPublisher alarmEventPublisher,
+                              ArtworkLikeEventPublisher artworkLikeEventPublisher,
+                              @Value("${like.state.max-size:300}") int maxStateSize) {
+        this.artworkService = artworkService;
+        this.artworkLikeWriteBuffer = artworkLikeWriteBuffer;
+        this.artworkLikeRepository = artworkLikeRepository;
+        this.artworkLikeIndexRepository = artworkLikeIndexRepository;
+        this.alarmEventPublisher = alarmEventPublisher;
+        this.artworkLikeEventPublisher = artworkLikeEventPublisher;
+        this.maxStateSize = maxStateSize;
+    }
 
-    public void updateArtworkLike(long memberId, long galleryId, long artworkId, LocalDateTime now) {
-        Member findMember = memberService.findMember(memberId);
-        Artwork findArtwork = artworkService.findGalleryVerifiedArtwork(galleryId, artworkId);
+    //토글은 메모리에만 반영하고, DB 저장은 ArtworkLikeFlushService가 모아서 처리
+    public void updateArtworkLike(long memberId, long galleryId, long artworkId) {
+        ArtworkLikeTargetDto likeTarget = artworkService.findGalleryVerifiedLikeTarget(galleryId, artworkId);
 
-        Optional<ArtworkLike> likeOptional = artworkLikeRepository.findByMemberAndArtwork(findMember, findArtwork);
-        likeOptional.ifPresentOrElse(
-                like -> {
-                    if (like.isLike()) {
-                        like.setStatus(LikeStatus.CANCEL);
-                        return;
-                    }
+        boolean like = artworkLikeWriteBuffer.toggle(artworkId, memberId);
+        artworkLikeEventPublisher.publishArtworkLikeEvent(ArtworkLikeEvent.builder()
+                .galleryId(galleryId)
+                .artworkId(artworkId)
+                .memberId(memberId)
+                .status(like ? LikeStatus.LIKE : LikeStatus.CANCEL)
+                .build());
 
-                    like.setStatus(LikeStatus.LIKE);
-                    //취소하고 30초안에 좋아요 누르면 알림이 또 안 가도록 구현
-                    if (Duration.between(like.getModifiedAt(), now).getSeconds() >= 30) {
-                        //전시관 주인 알람 생성
-                        Long galleryReceiverId = findArtwork.getGallery().getMember().getMemberId();
-                        alarmEventPublisher.publishAlarmEvent(like.toAlarmEvent(galleryReceiverId));
-                        //작품 주인 알람 생성
-                        Long artworkReceiverId = findArtwork.getMember().getMemberId();
-                        if (artworkReceiverId != galleryReceiverId) {   //두 알람의 주인이 같으면 중복으로 보내지 않음
-                            alarmEventPublisher.publishAlarmEvent(like.toAlarmEvent(artworkReceiverId));
-                        }
-                    }
-                },
-                () -> { //좋아요가 처음 눌릴 때
-                    ArtworkLike savedArtworkLike =
-                            artworkLikeRepository.save(ArtworkLike.builder()
-                            .member(findMember)
-                            .artwork(findArtwork)
-                            .build());
+        //알림은 (받는 회원, 작품)별로 집계 구간 동안 합쳐서 저장 (LikeAlarmFlushService)
+        if (!like) {
+            return;
+        }
+        //전시관 주인 알람 생성
+        Long galleryReceiverId = likeTarget.getGalleryMemberId();
+        alarmEventPublisher.publishAlarmEvent(toAlarmEvent(likeTarget, memberId, galleryReceiverId));
+        //작품 주인 알람 생성
+        Long artworkReceiverId = likeTarget.getArtworkMemberId();
+        if (!Objects.equals(artworkReceiverId, galleryReceiverId)) {   //두 알람의 주인이 같으면 중복으로 보내지 않음
+            alarmEventPublisher.publishAlarmEvent(toAlarmEvent(likeTarget, memberId, artworkReceiverId));
+        }
+    }
+
+    //여러 작품의 좋아요 수와 좋아요 여부를 한 번에 조회 (요청 순서대로, 없거나 닫힌 전시관의 작품은 제외)
+    //DB 조회는 한 번만 하고, 적재된 작품은 저장 대기 중인 토글이 있을 수 있어 인덱스 값으로 덮어씀
+    public List<ArtworkLikeStateResponseDto> findLikeStateList(long memberId, List<Long> artworkIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(artworkIds);
+        if (distinctIds.size() > maxStateSize) {
+            throw new BusinessLogicException(ExceptionCode.TOO_MANY_ARTWORK_IDS);
+        }
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, ArtworkLikeStateResponseDto> likeStates = artworkLikeRepository
+                .findLikeStateList(memberId, distinctIds, GalleryStatus.OPEN).stream()
+                .collect(Collectors.toMap(ArtworkLikeStateResponseDto::getArtworkId, Function.identity()));
+        Map<Long, Integer> loadedLikeCounts = artworkLikeIndexRepository.findLoadedLikeCounts(likeStates.keySet());
+        Map<Long, Boolean> loadedLiked = artworkLikeIndexRepository.findLoadedLiked(memberId, loadedLikeCounts.keySet());
+        loadedLikeCounts.forEach((artworkId, likeCount) ->
+                likeStates.get(artworkId).updateLikeState(likeCount, loadedLiked.getOrDefault(artworkId, false)));
+
+        return distinctIds.stream()
+                .map(likeStates::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-                    //전시관 주인 알람 생성
-                    Long galleryReceiverId = findArtwork.getGallery().getMember().getMemberId();
-                    alarmEventPublisher.publishAlarmEvent(savedArtworkLike.toAlarmEvent(galleryReceiverId));
-                    //작품 주인 알람 생성
-                    Long artworkReceiverId = findArtwork.getMember().getMemberId();
-                    if (artworkReceiverId != galleryReceiverId) {   //두 알람의 주인이 같으면 중복으로 보내지 않음
-                        alarmEventPublisher.publishAlarmEvent(savedArtworkLike.toAlarmEvent(artworkReceiverId));
-                    }
-                });
+    private AlarmEvent toAlarmEvent(ArtworkLikeTargetDto likeTarget, long senderId, Long receiverId) {
+        return AlarmEvent.builder()
+                .receiverId(receiverId)
+                .senderId(senderId)
+                .alarmType(AlarmType.LIKE_ARTWORK)
+                .galleryId(likeTarget.getGalleryId())
+                .artworkId(likeTarget.getArtworkId())
+                .build();
     }
 }
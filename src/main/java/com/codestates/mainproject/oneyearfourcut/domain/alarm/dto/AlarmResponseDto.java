@@ -20,6 +20,8 @@ public class AlarmResponseDto {
     private Long alarmId;
     private String alarmType;
     private String userNickname;
+    private Integer senderCount;    //좋아요 알림은 구간 동안 누른 회원 수 ("OO님 외 N명")
+    private List<String> recentUserNicknames;
     private LocalDateTime createdAt;
     private Boolean read;
     private Long galleryId;
@@ -0,0 +1,17 @@
+package com.codestates.mainproject.oneyearfourcut.domain.alarm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+//한 번의 집계 구간 동안 모인 좋아요 알림 (recentSenderIds는 최근에 누른 순)
+@Getter
+@AllArgsConstructor
+public class LikeAlarmDto {
+    private Long receiverId;
+    private Long galleryId;
+    private Long artworkId;
+    private int senderCount;
+    private List<Long> recentSenderIds;
+}
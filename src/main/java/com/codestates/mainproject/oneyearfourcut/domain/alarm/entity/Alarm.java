@@ -6,6 +6,9 @@ import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
 import lombok.*;
 
 import javax.persistence.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Getter
 @Entity
@@ -37,17 +40,43 @@ public class Alarm extends Auditable {
     @Column
     private Long galleryId;
 
+    //합쳐진 알림(좋아요)의 보낸 회원 수, senderId는 가장 최근에 보낸 회원
+    @Column(nullable = false)
+    private int senderCount = 1;
+
+    //합쳐진 알림의 최근 보낸 회원 id 목록 (최근 순, 쉼표 구분)
+    @Column(length = 64)
+    private String recentSenderIds;
+
     @Builder
-    public Alarm(Member member, Boolean readCheck, AlarmType alarmType, Long senderId, Long artworkId, Long galleryId) {
+    public Alarm(Member member, Boolean readCheck, AlarmType alarmType, Long senderId, Long artworkId, Long galleryId,
+                 Integer senderCount, List<Long> recentSenderIds) {
         this.member = member;
         this.readCheck = readCheck;
         this.alarmType = alarmType;
         this.senderId = senderId;
         this.artworkId = artworkId;
         this.galleryId = galleryId;
+        if (senderCount != null) {
+            this.senderCount = senderCount;
+        }
+        if (recentSenderIds != null && !recentSenderIds.isEmpty()) {
+            this.recentSenderIds = recentSenderIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+        }
+    }
+
+    public List<Long> getRecentSenderIdList() {
+        if (recentSenderIds == null) {
+            return List.of(senderId);
+        }
+        return Arrays.stream(recentSenderIds.split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
     }
 
-    public AlarmResponseDto toAlarmResponseDto(String nickname, String title) {
+    public AlarmResponseDto toAlarmResponseDto(String nickname, String title, List<String> recentNicknames) {
         return AlarmResponseDto.builder()
                 .alarmId(this.alarmId)
                 .alarmType(String.valueOf(this.getAlarmType()))
@@ -56,6 +85,8 @@ public class Alarm extends Auditable {
                 .galleryId(this.galleryId)
                 .artworkId(this.artworkId)
                 .userNickname(nickname)
+                .senderCount(this.senderCount)
+                .recentUserNicknames(recentNicknames)
                 .artworkTitle(title)
                 .build();
     }
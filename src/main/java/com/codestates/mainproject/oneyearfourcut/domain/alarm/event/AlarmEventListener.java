@@ -1,5 +1,7 @@
 package com.codestates.mainproject.oneyearfourcut.domain.alarm.event;
 
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.LikeAlarmBuffer;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.service.AlarmService;
 import com.codestates.mainproject.oneyearfourcut.domain.sse.SseType;
 import com.codestates.mainproject.oneyearfourcut.domain.sse.service.SseService;
@@ -7,14 +9,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 @RequiredArgsConstructor
 public class AlarmEventListener {
     private final AlarmService alarmService;
     private final SseService sseService;
+    private final LikeAlarmBuffer likeAlarmBuffer;
 
     @EventListener
     public void handleAlarmEvent(AlarmEvent event) {
+        //좋아요 알림은 모아서 LikeAlarmFlushService가 구간마다 한 번에 저장, 전송
+        if (event.getAlarmType() == AlarmType.LIKE_ARTWORK) {
+            likeAlarmBuffer.add(event, LocalDateTime.now());
+            return;
+        }
         alarmService.createAlarm(event.getReceiverId(), event.getSenderId(), event.getAlarmType(), event.getGalleryId(), event.getArtworkId());
         sseService.send(event.getReceiverId(), SseType.ALARM, true);
     }
@@ -0,0 +1,75 @@
+package com.codestates.mainproject.oneyearfourcut.domain.alarm.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.dto.LikeAlarmDto;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEvent;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요 알림을 (받는 회원, 작품)별로 모아두는 버퍼
+ * - 구간의 첫 좋아요부터 집계 시간이 지날 때까지 들어온 좋아요를 알림 하나로 합친다.
+ * - 같은 회원이 구간 안에서 다시 누르면 한 명으로 세고 최근 순서만 바꾼다. (취소 후 다시 누른 좋아요 알림 중복 방지)
+ */
+@Component
+public class LikeAlarmBuffer {
+    public static final int RECENT_SENDER_SIZE = 3;
+
+    private final Map<LikeAlarmKey, PendingLikeAlarm> pendingAlarms = new ConcurrentHashMap<>();
+
+    public void add(AlarmEvent event, LocalDateTime now) {
+        LikeAlarmKey key = new LikeAlarmKey(event.getReceiverId(), event.getArtworkId());
+        pendingAlarms.compute(key, (k, pending) -> {
+            if (pending == null) {
+                pending = new PendingLikeAlarm(event.getGalleryId(), now);
+            }
+            pending.senderIds.remove(event.getSenderId());
+            pending.senderIds.add(event.getSenderId());
+            return pending;
+        });
+    }
+
+    //구간이 time 이전에 시작된 알림을 꺼내고 버퍼에서 지움 (time이 null이면 전부)
+    public List<LikeAlarmDto> drainStartedBefore(LocalDateTime time) {
+        List<LikeAlarmDto> likeAlarmList = new ArrayList<>();
+        for (LikeAlarmKey key : pendingAlarms.keySet()) {
+            pendingAlarms.computeIfPresent(key, (k, pending) -> {
+                if (time != null && pending.startedAt.isAfter(time)) {
+                    return pending;
+                }
+                likeAlarmList.add(pending.toLikeAlarmDto(k));
+                return null;
+            });
+        }
+        return likeAlarmList;
+    }
+
+    private static class PendingLikeAlarm {
+        private final Long galleryId;
+        private final LocalDateTime startedAt;
+        private final LinkedHashSet<Long> senderIds = new LinkedHashSet<>();
+
+        private PendingLikeAlarm(Long galleryId, LocalDateTime startedAt) {
+            this.galleryId = galleryId;
+            this.startedAt = startedAt;
+        }
+
+        private LikeAlarmDto toLikeAlarmDto(LikeAlarmKey key) {
+            List<Long> recentSenderIds = new ArrayList<>(senderIds);
+            Collections.reverse(recentSenderIds);
+            return new LikeAlarmDto(key.receiverId, galleryId, key.artworkId, senderIds.size(),
+                    recentSenderIds.subList(0, Math.min(RECENT_SENDER_SIZE, recentSenderIds.size())));
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class LikeAlarmKey {
+        private final Long receiverId;
+        private final Long artworkId;
+    }
+}
@@ -2,12 +2,14 @@ package com.codestates.mainproject.oneyearfourcut.domain.alarm.service;
 
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.dto.AlarmReadCheckResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.dto.AlarmResponseDto;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.dto.LikeAlarmDto;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.Alarm;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.member.service.MemberService;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
@@ -19,7 +21,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,6 +34,7 @@ public class AlarmService {
     private final MemberService memberService;
     private final ArtworkRepository artworkRepository;
     private final AlarmRepository alarmRepository;
+    private final MemberRepository memberRepository;
 
     public List<AlarmResponseDto> getAlarmPagesByFilter(String filter, int page, Long memberId) {
         Member member = memberService.findMember(memberId);
@@ -39,6 +44,7 @@ public class AlarmService {
         try {
             alarmPage = findAlarmPagesByFilter(filter, memberId, page);
             List<Alarm> alarmList = alarmPage.getContent();
+            Map<Long, String> recentNicknames = findRecentSenderNicknames(alarmList);
             List<AlarmResponseDto> alarmListToResDTO = alarmList.stream()
                     .map(alarm -> {
                         Member sender = memberService.findMember(alarm.getSenderId());
@@ -48,7 +54,14 @@ public class AlarmService {
                                     .orElseThrow(() -> new BusinessLogicException(ExceptionCode.ARTWORK_NOT_FOUND));
                             artworkTitle = artwork.getTitle();
                         }
-                        return alarm.toAlarmResponseDto(sender.getNickname(), artworkTitle);
+                        List<String> recentUserNicknames = null;
+                        if (alarm.getRecentSenderIds() != null) {
+                            recentUserNicknames = alarm.getRecentSenderIdList().stream()
+                                    .map(recentNicknames::get)
+                                    .filter(Objects::nonNull)
+                                    .collect(Collectors.toList());
+                        }
+                        return alarm.toAlarmResponseDto(sender.getNickname(), artworkTitle, recentUserNicknames);
                     })
                     .collect(Collectors.toList());
             return alarmListToResDTO;
@@ -58,6 +71,19 @@ public class AlarmService {
     }
 
 
+    //합쳐진 알림의 최근 보낸 회원 닉네임을 페이지 단위로 한 번에 조회
+    private Map<Long, String> findRecentSenderNicknames(List<Alarm> alarmList) {
+        Set<Long> senderIds = alarmList.stream()
+                .filter(alarm -> alarm.getRecentSenderIds() != null)
+                .flatMap(alarm -> alarm.getRecentSenderIdList().stream())
+                .collect(Collectors.toSet());
+        if (senderIds.isEmpty()) {
+            return Map.of();
+        }
+        return memberRepository.findAllById(senderIds).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Member::getNickname));
+    }
+
     @Transactional(readOnly = true)
     public Boolean checkReadAlarm(Long memberId) {
         return alarmRepository.existsByMember_MemberIdAndReadCheck(memberId, Boolean.FALSE);
@@ -88,4 +114,20 @@ public class AlarmService {
 
         alarmRepository.save(alarm);
     }
+
+    //집계 구간 동안 모인 좋아요를 알림 하나로 저장 (보낸 회원은 가장 최근에 누른 회원)
+    public void createLikeAlarm(LikeAlarmDto likeAlarm) {
+        Alarm alarm = Alarm.builder()
+                .member(new Member(likeAlarm.getReceiverId()))
+                .senderId(likeAlarm.getRecentSenderIds().get(0))
+                .alarmType(AlarmType.LIKE_ARTWORK)
+                .artworkId(likeAlarm.getArtworkId())
+                .galleryId(likeAlarm.getGalleryId())
+                .senderCount(likeAlarm.getSenderCount())
+                .recentSenderIds(likeAlarm.getRecentSenderIds())
+                .readCheck(false)
+                .build();
+
+        alarmRepository.save(alarm);
+    }
 }
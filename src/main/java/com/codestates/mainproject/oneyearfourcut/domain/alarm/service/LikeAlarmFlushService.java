@@ -0,0 +1,67 @@
+package com.codestates.mainproject.oneyearfourcut.domain.alarm.service;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.dto.LikeAlarmDto;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.LikeAlarmBuffer;
+import com.codestates.mainproject.oneyearfourcut.domain.sse.SseType;
+import com.codestates.mainproject.oneyearfourcut.domain.sse.service.SseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 집계 구간(alarm.like.window)이 끝난 좋아요 알림을 저장하고 받는 회원마다 SSE를 한 번만 보냄
+ * - 좋아요 하나마다 알림 저장, SSE 전송을 하지 않고 구간마다 (받는 회원, 작품)별로 한 번만 한다.
+ */
+@Slf4j
+@Service
+public class LikeAlarmFlushService {
+    private final LikeAlarmBuffer likeAlarmBuffer;
+    private final AlarmService alarmService;
+    private final SseService sseService;
+    private final Duration window;
+
+    public LikeAlarmFlushService(LikeAlarmBuffer likeAlarmBuffer,
+                                 AlarmService alarmService,
+                                 SseService sseService,
+                                 @Value("${alarm.like.window:30s}") Duration window) {
+        this.likeAlarmBuffer = likeAlarmBuffer;
+        this.alarmService = alarmService;
+        this.sseService = sseService;
+        this.window = window;
+    }
+
+    @Scheduled(fixedDelayString = "${alarm.like.flush-interval-millis:1000}",
+            initialDelayString = "${alarm.like.flush-interval-millis:1000}")
+    public void flush() {
+        save(likeAlarmBuffer.drainStartedBefore(LocalDateTime.now().minus(window)));
+    }
+
+    //정상 종료 시 구간이 끝나지 않은 알림도 저장
+    @PreDestroy
+    public void flushAll() {
+        save(likeAlarmBuffer.drainStartedBefore(null));
+    }
+
+    private void save(List<LikeAlarmDto> likeAlarmList) {
+        Set<Long> receiverIds = new LinkedHashSet<>();
+        for (LikeAlarmDto likeAlarm : likeAlarmList) {
+            //그 사이 회원, 작품이 삭제된 알림만 버리고 나머지는 저장
+            try {
+                alarmService.createLikeAlarm(likeAlarm);
+                receiverIds.add(likeAlarm.getReceiverId());
+            } catch (RuntimeException e) {
+                log.warn("좋아요 알림 저장 실패 : receiver {}, artwork {}",
+                        likeAlarm.getReceiverId(), likeAlarm.getArtworkId(), e);
+            }
+        }
+        receiverIds.forEach(receiverId -> sseService.send(receiverId, SseType.ALARM, true));
+    }
+}
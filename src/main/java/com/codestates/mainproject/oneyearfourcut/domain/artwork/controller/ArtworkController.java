@@ -6,12 +6,15 @@ import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkPostD
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.OneYearFourCutResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.service.ArtworkService;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.service.GalleryResponseCacheService;
 import com.codestates.mainproject.oneyearfourcut.global.config.auth.LoginMember;
+import com.codestates.mainproject.oneyearfourcut.global.page.ArtworkPageResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
@@ -24,6 +27,7 @@ import java.util.List;
 public class ArtworkController {
 
     private final ArtworkService artworkService;
+    private final GalleryResponseCacheService galleryResponseCacheService;
 
     // 전시 작품 등록
     @PostMapping("/{gallery-id}/artworks")
@@ -34,11 +38,23 @@ public class ArtworkController {
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
-    // 작품 전체 조회
+    // 작품 전체 조회 (전시관 버전이 같으면 304)
     @GetMapping("/{gallery-id}/artworks")
     public ResponseEntity<?> getArtworks(@LoginMember Long memberId,
-                                         @Positive @PathVariable("gallery-id") long galleryId) {
-        List<ArtworkResponseDto> response = artworkService.findArtworkResponseDtoList(memberId, galleryId);
+                                         @Positive @PathVariable("gallery-id") long galleryId,
+                                         WebRequest webRequest) {
+        return galleryResponseCacheService.getResponse(webRequest, "artworks", galleryId, memberId,
+                () -> artworkService.findArtworkResponseDtoList(memberId, galleryId));
+    }
+
+    // 작품 커서 페이지 조회 (size 파라미터가 있으면 페이지 단위로 응답)
+    @GetMapping(value = "/{gallery-id}/artworks", params = "size")
+    public ResponseEntity<?> getArtworkPage(@LoginMember Long memberId,
+                                            @Positive @PathVariable("gallery-id") long galleryId,
+                                            @RequestParam(required = false) String cursor,
+                                            @Positive @RequestParam int size) {
+        ArtworkPageResponseDto<Object> response =
+                artworkService.findArtworkResponseDtoPage(memberId, galleryId, cursor, size);
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -0,0 +1,24 @@
+package com.codestates.mainproject.oneyearfourcut.domain.artwork.dto;
+
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//좋아요 대상 검증과 알림 수신자 확인에 필요한 값만 조회
+@Getter
+@AllArgsConstructor
+public class ArtworkLikeTargetDto {
+    private Long artworkId;
+    private Long galleryId;
+    private GalleryStatus galleryStatus;
+    private Long artworkMemberId;
+    private Long galleryMemberId;
+
+    public boolean isInOpenGallery() {
+        return this.galleryStatus == GalleryStatus.OPEN;
+    }
+
+    public boolean isCorrectGallery(long galleryId) {
+        return this.galleryId == galleryId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.codestates.mainproject.oneyearfourcut.domain.artwork.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ArtworkRankDto {
+    private Long artworkId;
+    private String imagePath;
+    private int likeCount;
+    private LocalDateTime createdAt;
+}
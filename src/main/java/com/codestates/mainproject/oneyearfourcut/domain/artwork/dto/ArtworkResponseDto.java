@@ -1,7 +1,11 @@
 package com.codestates.mainproject.oneyearfourcut.domain.artwork.dto;
 
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,24 +19,72 @@ public class ArtworkResponseDto {
     private String title;
     private String content;
     private String imagePath;
+    private String mediumPath;
+    private String thumbnailPath;
     private int likeCount;
     private boolean liked;
     private int commentCount;
 
+    //조회 쿼리에서 함께 가져오는 검증, 커서용 값 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private Long galleryId;
+    @JsonIgnore
+    private GalleryStatus galleryStatus;
+    @JsonIgnore
+    private LocalDateTime createdAt;
+
+    //ArtworkRepository 프로젝션 쿼리용 생성자
+    public ArtworkResponseDto(Long artworkId, Long memberId, String nickName, String title, String content,
+                              String imagePath, String mediumPath, String thumbnailPath, int likeCount, int commentCount,
+                              Long galleryId, GalleryStatus galleryStatus, LocalDateTime createdAt) {
+        this.artworkId = artworkId;
+        this.memberId = memberId;
+        this.nickName = nickName;
+        this.title = title;
+        this.content = content;
+        this.imagePath = imagePath;
+        this.mediumPath = mediumPath;
+        this.thumbnailPath = thumbnailPath;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.galleryId = galleryId;
+        this.galleryStatus = galleryStatus;
+        this.createdAt = createdAt;
+    }
+
     @Builder
-    private ArtworkResponseDto(long artworkId, long memberId, String nickName, String title, String content, String imagePath, int likeCount, boolean liked, int commentCount) {
+    private ArtworkResponseDto(long artworkId, long memberId, String nickName, String title, String content, String imagePath, String mediumPath, String thumbnailPath, int likeCount, boolean liked, int commentCount) {
         this.artworkId = artworkId;
         this.memberId = memberId;
         this.nickName = nickName;
         this.title = title;
         this.content = content;
         this.imagePath = imagePath;
+        this.mediumPath = mediumPath;
+        this.thumbnailPath = thumbnailPath;
         this.likeCount = likeCount;
         this.liked = liked;
         this.commentCount = commentCount;
     }
 
 
+    public void updateLiked(boolean liked) {
+        this.liked = liked;
+    }
+
+    public void updateLikeCount(int likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    @JsonIgnore
+    public boolean isInOpenGallery() {
+        return this.galleryStatus == GalleryStatus.OPEN;
+    }
+
+    public boolean isCorrectGallery(long galleryId) {
+        return this.galleryId == galleryId;
+    }
+
     public static List<ArtworkResponseDto> toListResponse (List<Artwork> artworkList) {
         return artworkList.stream()
                 .map(Artwork::toArtworkResponseDto)
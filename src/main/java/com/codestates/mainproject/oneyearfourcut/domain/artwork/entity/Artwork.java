@@ -6,16 +6,19 @@ import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEvent;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.OneYearFourCutResponseDto;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEventType;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
+import com.codestates.mainproject.oneyearfourcut.global.storage.UploadedImage;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.*;
@@ -27,9 +30,14 @@ import java.util.Optional;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_artwork_gallery_created", columnList = "gallery_id, created_at, artwork_id"),
+        @Index(name = "idx_artwork_gallery_like", columnList = "gallery_id, like_count, created_at")
+})
 public class Artwork extends Auditable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "artwork_id")
     private Long artworkId;
 
     @Column(length = 20, nullable = false)
@@ -41,15 +49,23 @@ public class Artwork extends Auditable {
     @Column(columnDefinition = "TEXT", nullable = false, unique = true)
     private String imagePath;
 
+    //목록, 상세 화면용 변환본 (변환할 수 없는 이미지면 null)
+    @Column(columnDefinition = "TEXT")
+    private String mediumPath;
+
+    @Column(columnDefinition = "TEXT")
+    private String thumbnailPath;
+
     @Transient
     private MultipartFile image;
 
-    @Formula("(select count(*) from artwork_like v where v.artwork_id = artwork_id and v.status = 'LIKE')")
+    // 카운터 컬럼은 ArtworkRepository의 update 쿼리로만 변경 (엔티티 flush 시 덮어쓰지 않도록 insertable, updatable = false)
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
     private int likeCount;
-    @Transient
-    private boolean liked;
 
-    @Formula("(select count(*) from comment c where c.artwork_id = artwork_id)")
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
     private int commentCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -67,7 +83,11 @@ public class Artwork extends Auditable {
 
     public void modify(Artwork artwork) {
         Optional.ofNullable(artwork.getImagePath())
-                .ifPresent(imagePath -> this.imagePath = imagePath);
+                .ifPresent(imagePath -> {
+                    this.imagePath = imagePath;
+                    this.mediumPath = artwork.getMediumPath();
+                    this.thumbnailPath = artwork.getThumbnailPath();
+                });
         Optional.ofNullable(artwork.getTitle())
                 .ifPresent(title -> this.title = title);
         Optional.ofNullable(artwork.getContent())
@@ -79,17 +99,6 @@ public class Artwork extends Auditable {
     public boolean isCorrectGallery(long galleryId) {
         return this.getGallery().getGalleryId() == galleryId;
     }
-    public void setMemberLike(long memberId) {
-        if (memberId != -1) {
-            this.getArtworkLikeList().stream()
-                    .forEach(artworkLike -> {
-                        if (artworkLike.getMember().getMemberId() == memberId) {
-                            this.liked = true;
-                        }
-                    });
-        }
-    }
-
     public boolean isOwner(long artworkMemberId) {
         return this.getMember().getMemberId() == artworkMemberId;
     }
@@ -117,6 +126,11 @@ public class Artwork extends Auditable {
     public void setImagePath(String imagePath) {
         this.imagePath = imagePath;
     }
+    public void setImage(UploadedImage uploadedImage) {
+        this.imagePath = uploadedImage.getImagePath();
+        this.mediumPath = uploadedImage.getMediumPath();
+        this.thumbnailPath = uploadedImage.getThumbnailPath();
+    }
 
     /* ################### 생성자 ################### */
 
@@ -126,6 +140,9 @@ public class Artwork extends Auditable {
         this.content = content;
         this.image = image;
     }
+    public Artwork(Long artworkId) {
+        this.artworkId = artworkId;
+    }
     /* ################### toDto ################### */
 
     public ArtworkResponseDto toArtworkResponseDto() {
@@ -136,8 +153,9 @@ public class Artwork extends Auditable {
                 .title(title)
                 .content(content)
                 .imagePath(imagePath)
+                .mediumPath(Optional.ofNullable(mediumPath).orElse(imagePath))
+                .thumbnailPath(Optional.ofNullable(thumbnailPath).orElse(imagePath))
                 .likeCount(likeCount)
-                .liked(liked)
                 .commentCount(commentCount)
                 .build();
     }
@@ -149,6 +167,21 @@ public class Artwork extends Auditable {
                 .build();
     }
 
+    public ArtworkEvent toArtworkEvent(ArtworkEventType type) {
+        return toArtworkEvent(type, null);
+    }
+
+    public ArtworkEvent toArtworkEvent(ArtworkEventType type, Long galleryMemberId) {
+        return ArtworkEvent.builder()
+                .galleryId(this.getGallery().getGalleryId())
+                .galleryMemberId(galleryMemberId)
+                .artworkId(this.getArtworkId())
+                .imagePath(this.getImagePath())
+                .createdAt(this.getCreatedAt())
+                .type(type)
+                .build();
+    }
+
     public AlarmEvent toAlarmEvent(Long receiverId) {
         return AlarmEvent.builder()
                 .receiverId(receiverId)
@@ -0,0 +1,27 @@
+package com.codestates.mainproject.oneyearfourcut.domain.artwork.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ArtworkEvent {
+    private final Long galleryId;
+    private final Long galleryMemberId; //전시관 주인 (피드 전송용, 등록, 삭제 이벤트에만 있음)
+    private final Long artworkId;
+    private final String imagePath;
+    private final LocalDateTime createdAt;
+    private final ArtworkEventType type;
+
+    @Builder
+    public ArtworkEvent(Long galleryId, Long galleryMemberId, Long artworkId, String imagePath, LocalDateTime createdAt,
+                        ArtworkEventType type) {
+        this.galleryId = galleryId;
+        this.galleryMemberId = galleryMemberId;
+        this.artworkId = artworkId;
+        this.imagePath = imagePath;
+        this.createdAt = createdAt;
+        this.type = type;
+    }
+}
@@ -0,0 +1,30 @@
+package com.codestates.mainproject.oneyearfourcut.domain.artwork.event;
+
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.OneYearFourCutRankingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ArtworkEventListener {
+    private final OneYearFourCutRankingRepository oneYearFourCutRankingRepository;
+
+    //커밋된 작품 등록, 수정, 삭제만 랭킹에 반영
+    @TransactionalEventListener
+    public void handleArtworkEvent(ArtworkEvent event) {
+        switch (event.getType()) {
+            case CREATE:
+                oneYearFourCutRankingRepository.add(event.getGalleryId(), event.getArtworkId(),
+                        event.getImagePath(), event.getCreatedAt());
+                break;
+            case MODIFY:
+                oneYearFourCutRankingRepository.updateImagePath(event.getGalleryId(), event.getArtworkId(),
+                        event.getImagePath());
+                break;
+            case DELETE:
+                oneYearFourCutRankingRepository.remove(event.getGalleryId(), event.getArtworkId());
+                break;
+        }
+    }
+}
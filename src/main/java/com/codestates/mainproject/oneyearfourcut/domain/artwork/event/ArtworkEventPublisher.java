@@ -0,0 +1,15 @@
+package com.codestates.mainproject.oneyearfourcut.domain.artwork.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ArtworkEventPublisher {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publishArtworkEvent(ArtworkEvent artworkEvent) {
+        applicationEventPublisher.publishEvent(artworkEvent);
+    }
+}
@@ -0,0 +1,5 @@
+package com.codestates.mainproject.oneyearfourcut.domain.artwork.event;
+
+public enum ArtworkEventType {
+    CREATE, MODIFY, DELETE
+}
@@ -1,19 +1,78 @@
 package com.codestates.mainproject.oneyearfourcut.domain.artwork.repository;
 
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkLikeTargetDto;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkRankDto;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ArtworkRepository extends JpaRepository<Artwork, Long> {
 
 
-    List<Artwork> findAllByGallery_GalleryId(Long galleryId, Sort sort);
+    //응답 DTO 프로젝션 (작성자 닉네임, 전시관 상태를 join으로 함께 조회, 변환본이 없으면 원본 경로로 대신)
+    String ARTWORK_RESPONSE_SELECT = "SELECT new com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkResponseDto(" +
+            "a.artworkId, m.memberId, m.nickname, a.title, a.content, a.imagePath," +
+            " COALESCE(a.mediumPath, a.imagePath), COALESCE(a.thumbnailPath, a.imagePath), a.likeCount, a.commentCount," +
+            " g.galleryId, g.status, a.createdAt)" +
+            " FROM Artwork a JOIN a.member m JOIN a.gallery g";
 
-    List<Artwork> findTop4ByGallery_GalleryId(Long galleryId, Sort sort);
+    @Query(ARTWORK_RESPONSE_SELECT + " WHERE a.artworkId = :artworkId")
+    Optional<ArtworkResponseDto> findArtworkResponse(@Param("artworkId") Long artworkId);
 
+    @Query(ARTWORK_RESPONSE_SELECT +
+            " WHERE g.galleryId = :galleryId" +
+            " ORDER BY a.createdAt DESC, a.artworkId DESC")
+    List<ArtworkResponseDto> findArtworkResponseList(@Param("galleryId") Long galleryId);
 
+    //커서 페이지네이션 (createdAt, artworkId 내림차순), count 쿼리가 없도록 List로 반환
+    @Query(ARTWORK_RESPONSE_SELECT +
+            " WHERE g.galleryId = :galleryId" +
+            " ORDER BY a.createdAt DESC, a.artworkId DESC")
+    List<ArtworkResponseDto> findFirstPage(@Param("galleryId") Long galleryId, Pageable pageable);
+
+    @Query(ARTWORK_RESPONSE_SELECT +
+            " WHERE g.galleryId = :galleryId" +
+            " AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.artworkId < :artworkId))" +
+            " ORDER BY a.createdAt DESC, a.artworkId DESC")
+    List<ArtworkResponseDto> findNextPage(@Param("galleryId") Long galleryId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("artworkId") Long artworkId,
+                                          Pageable pageable);
+
+    //올해네컷 랭킹 적재용 (이미지 경로, 좋아요 수, 등록일만 조회)
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkRankDto(" +
+            "a.artworkId, a.imagePath, a.likeCount, a.createdAt)" +
+            " FROM Artwork a WHERE a.gallery.galleryId = :galleryId")
+    List<ArtworkRankDto> findRankList(@Param("galleryId") Long galleryId);
+
+    //좋아요 대상 조회 (작성자, 전시관 주인은 외래키 값만 사용)
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkLikeTargetDto(" +
+            "a.artworkId, g.galleryId, g.status, a.member.memberId, g.member.memberId)" +
+            " FROM Artwork a JOIN a.gallery g WHERE a.artworkId = :artworkId")
+    Optional<ArtworkLikeTargetDto> findLikeTarget(@Param("artworkId") Long artworkId);
+
+    //댓글 수는 엔티티를 읽지 않고 DB에서 원자적으로 증감 (좋아요 수는 ArtworkLikeFlushService에서 일괄 반영)
+    @Modifying
+    @Query("UPDATE Artwork a SET a.commentCount = a.commentCount + :delta WHERE a.artworkId = :artworkId")
+    int updateCommentCount(@Param("artworkId") Long artworkId, @Param("delta") int delta);
+
+    //카운터 컬럼 도입 이전 데이터 보정용 (artwork_like, comment 테이블 기준으로 다시 집계)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE artwork SET " +
+            "like_count = (SELECT COUNT(*) FROM artwork_like v WHERE v.artwork_id = artwork.artwork_id AND v.status = 'LIKE'), " +
+            "comment_count = (SELECT COUNT(*) FROM comment c WHERE c.artwork_id = artwork.artwork_id)",
+            nativeQuery = true)
+    int syncCountColumns();
 }
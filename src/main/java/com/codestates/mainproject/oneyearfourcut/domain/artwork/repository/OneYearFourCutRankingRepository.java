@@ -0,0 +1,195 @@
+package com.codestates.mainproject.oneyearfourcut.domain.artwork.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeIndexRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkRankDto;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.OneYearFourCutResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 전시관별 올해네컷(좋아요 순 상위 4개) 랭킹을 메모리에 유지
+ * - 전시관 단위로 처음 조회될 때 DB에서 적재한다.
+ * - 적재 이후에는 작품 등록/수정/삭제 커밋 이벤트, 좋아요 토글 이벤트로만 갱신한다.
+ * - 좋아요 수는 DB에 저장되기 전 토글까지 반영된 좋아요 인덱스 값을 쓴다.
+ * - 이벤트와 랭킹이 맞지 않으면 해당 전시관 랭킹을 버리고 다음 조회 때 다시 적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OneYearFourCutRankingRepository {
+    private static final int TOP_SIZE = 4;
+
+    private final ArtworkRepository artworkRepository;
+    private final ArtworkLikeIndexRepository artworkLikeIndexRepository;
+
+    private final Map<Long, GalleryRanking> rankings = new ConcurrentHashMap<>();
+
+    //적재 도중 변경이 들어왔는지 확인하기 위한 변경 횟수
+    private final AtomicLong modifiedCount = new AtomicLong();
+
+    public List<OneYearFourCutResponseDto> findTop(long galleryId) {
+        GalleryRanking ranking = rankings.get(galleryId);
+        if (ranking == null) {
+            ranking = load(galleryId);
+        }
+        return ranking.getTop();
+    }
+
+    public void add(long galleryId, long artworkId, String imagePath, LocalDateTime createdAt) {
+        modifiedCount.incrementAndGet();
+        GalleryRanking ranking = rankings.get(galleryId);
+        if (ranking != null) {
+            ranking.add(new Rank(artworkId, imagePath, 0, createdAt));
+        }
+    }
+
+    public void updateImagePath(long galleryId, long artworkId, String imagePath) {
+        modifiedCount.incrementAndGet();
+        GalleryRanking ranking = rankings.get(galleryId);
+        if (ranking != null && !ranking.updateImagePath(artworkId, imagePath)) {
+            rankings.remove(galleryId, ranking);
+        }
+    }
+
+    //증감 대신 인덱스의 현재 좋아요 수로 덮어써서, 이벤트 순서가 바뀌거나 적재와 겹쳐도 마지막 반영 값이 최신이 되도록 함
+    public void refreshLikeCount(long galleryId, long artworkId) {
+        modifiedCount.incrementAndGet();
+        GalleryRanking ranking = rankings.get(galleryId);
+        if (ranking != null && !ranking.updateLikeCount(artworkId,
+                () -> artworkLikeIndexRepository.findLoadedLikeCounts(List.of(artworkId)).get(artworkId))) {
+            rankings.remove(galleryId, ranking);
+        }
+    }
+
+    public void remove(long galleryId, long artworkId) {
+        modifiedCount.incrementAndGet();
+        GalleryRanking ranking = rankings.get(galleryId);
+        if (ranking != null) {
+            ranking.remove(artworkId);
+        }
+    }
+
+    public void evict(long galleryId) {
+        modifiedCount.incrementAndGet();
+        rankings.remove(galleryId);
+    }
+
+    private GalleryRanking load(long galleryId) {
+        long countBeforeLoad = modifiedCount.get();
+
+        GalleryRanking loaded = new GalleryRanking();
+        List<ArtworkRankDto> rankList = artworkRepository.findRankList(galleryId);
+        //DB 조회 이후에 인덱스를 확인해야 조회 시점에 적재되지 않았던 작품의 DB 값이 정확함
+        Map<Long, Integer> likeCounts = artworkLikeIndexRepository.findLoadedLikeCounts(
+                rankList.stream().map(ArtworkRankDto::getArtworkId).collect(Collectors.toList()));
+        rankList.forEach(rank -> loaded.add(new Rank(rank.getArtworkId(), rank.getImagePath(),
+                likeCounts.getOrDefault(rank.getArtworkId(), rank.getLikeCount()), rank.getCreatedAt())));
+
+        //조회 도중 변경이 있었다면 조회 결과가 오래된 것일 수 있으므로 캐시하지 않음
+        rankings.compute(galleryId, (id, present) -> {
+            if (present != null) {
+                return present;
+            }
+            return modifiedCount.get() == countBeforeLoad ? loaded : null;
+        });
+        return loaded;
+    }
+
+    /**
+     * 전시관 한 곳의 작품 전체를 (좋아요 수, 등록일, id) 내림차순으로 정렬해 보관
+     * 상위 작품의 좋아요가 취소되어도 다음 순위 작품을 DB 조회 없이 올릴 수 있도록 전체를 들고 있는다.
+     */
+    private static class GalleryRanking {
+        private final Map<Long, Rank> rankMap = new HashMap<>();
+        private final NavigableSet<Rank> rankSet = new TreeSet<>(Rank.ORDER);
+        private volatile List<OneYearFourCutResponseDto> top = Collections.emptyList();
+
+        List<OneYearFourCutResponseDto> getTop() {
+            return top;
+        }
+
+        synchronized void add(Rank rank) {
+            if (rankMap.containsKey(rank.artworkId)) {
+                return;
+            }
+            replace(null, rank);
+        }
+
+        synchronized boolean updateImagePath(long artworkId, String imagePath) {
+            Rank rank = rankMap.get(artworkId);
+            if (rank == null) {
+                return false;
+            }
+            replace(rank, new Rank(artworkId, imagePath, rank.likeCount, rank.createdAt));
+            return true;
+        }
+
+        //좋아요 수는 락 안에서 읽어서, 나중에 반영되는 쪽이 항상 더 최신 값을 쓰도록 함
+        synchronized boolean updateLikeCount(long artworkId, Supplier<Integer> likeCountSupplier) {
+            Rank rank = rankMap.get(artworkId);
+            Integer likeCount = likeCountSupplier.get();
+            if (rank == null || likeCount == null) {
+                return false;
+            }
+            replace(rank, new Rank(artworkId, rank.imagePath, likeCount, rank.createdAt));
+            return true;
+        }
+
+        synchronized void remove(long artworkId) {
+            Rank rank = rankMap.remove(artworkId);
+            if (rank != null) {
+                rankSet.remove(rank);
+                refreshTop();
+            }
+        }
+
+        private void replace(Rank before, Rank after) {
+            if (before != null) {
+                rankSet.remove(before);
+            }
+            rankMap.put(after.artworkId, after);
+            rankSet.add(after);
+            refreshTop();
+        }
+
+        private void refreshTop() {
+            top = rankSet.stream()
+                    .limit(TOP_SIZE)
+                    .map(Rank::toOneYearFourCutResponseDto)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    private static class Rank {
+        private static final Comparator<Rank> ORDER = Comparator.<Rank>comparingInt(rank -> rank.likeCount)
+                .thenComparing(rank -> rank.createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(rank -> rank.artworkId)
+                .reversed();
+
+        private final long artworkId;
+        private final String imagePath;
+        private final int likeCount;
+        private final LocalDateTime createdAt;
+
+        private Rank(long artworkId, String imagePath, int likeCount, LocalDateTime createdAt) {
+            this.artworkId = artworkId;
+            this.imagePath = imagePath;
+            this.likeCount = likeCount;
+            this.createdAt = createdAt;
+        }
+
+        private OneYearFourCutResponseDto toOneYearFourCutResponseDto() {
+            return OneYearFourCutResponseDto.builder()
+                    .artworkId(artworkId)
+                    .imagePath(imagePath)
+                    .likeCount(likeCount)
+                    .build();
+        }
+    }
+}
@@ -1,32 +1,45 @@
 package com.codestates.mainproject.oneyearfourcut.domain.artwork.service;
 
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeIndexRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEventPublisher;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkLikeTargetDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkPatchDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkPostDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.ArtworkResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.dto.OneYearFourCutResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEventPublisher;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEventType;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.OneYearFourCutRankingRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.service.GalleryService;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
-import com.codestates.mainproject.oneyearfourcut.global.aws.service.AwsS3Service;
+import com.codestates.mainproject.oneyearfourcut.global.storage.ImageUploadService;
+import com.codestates.mainproject.oneyearfourcut.global.storage.UploadedImage;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import com.codestates.mainproject.oneyearfourcut.global.page.ArtworkPageResponseDto;
+import com.codestates.mainproject.oneyearfourcut.global.page.CursorPageInfo;
+import com.codestates.mainproject.oneyearfourcut.global.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import static org.springframework.data.domain.Sort.Order.desc;
-
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -34,8 +47,15 @@ import static org.springframework.data.domain.Sort.Order.desc;
 public class ArtworkService {
     private final ArtworkRepository artworkRepository;
     private final GalleryService galleryService;
-    private final AwsS3Service awsS3Service;
+    private final ImageUploadService imageUploadService;
     private final AlarmEventPublisher alarmEventPublisher;
+    private final ArtworkLikeIndexRepository artworkLikeIndexRepository;
+    private final OneYearFourCutRankingRepository oneYearFourCutRankingRepository;
+    private final ArtworkEventPublisher artworkEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${artwork.page.max-size:50}")
+    private int maxPageSize;
 
     public Artwork findArtwork(long artworkId) {
         Optional<Artwork> artworkOptional = artworkRepository.findById(artworkId);
@@ -73,87 +93,200 @@ public class ArtworkService {
         }
     }
 
-    public List<Artwork> findArtworkList(long galleryId) {
-        galleryService.verifiedGalleryExist(galleryId);
+    //좋아요 대상 작품 검증 (엔티티 대신 전시관, 작성자 id만 조회)
+    public ArtworkLikeTargetDto findGalleryVerifiedLikeTarget(long galleryId, long artworkId) {
+        ArtworkLikeTargetDto likeTarget = artworkRepository.findLikeTarget(artworkId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.ARTWORK_NOT_FOUND));
 
-        List<Artwork> artworkList = artworkRepository.findAllByGallery_GalleryId(galleryId,
-                Sort.by(desc("createdAt")));
+        if (!likeTarget.isInOpenGallery()) {
+            throw new BusinessLogicException(ExceptionCode.CLOSED_GALLERY);
+        }
+        if (!likeTarget.isCorrectGallery(galleryId)) {
+            throw new BusinessLogicException(ExceptionCode.ARTWORK_NOT_FOUND_FROM_GALLERY);
+        }
+        return likeTarget;
+    }
 
-        return artworkList;
+    //댓글 수 카운터 컬럼 갱신 (댓글 서비스에서 호출)
+    @Transactional
+    public void increaseCommentCount(long artworkId) {
+        artworkRepository.updateCommentCount(artworkId, 1);
     }
 
-    //==============================Artwork Controller 용 CRUD==============================//
     @Transactional
+    public void decreaseCommentCount(long artworkId) {
+        artworkRepository.updateCommentCount(artworkId, -1);
+    }
+
+    //==============================Artwork Controller 용 CRUD==============================//
+    /*
+     * 이미지 업로드 동안 커넥션을 점유하지 않도록 검증, 업로드는 트랜잭션 밖에서 먼저 처리하고
+     * 경로 저장만 짧은 트랜잭션으로 처리한다. DB 저장에 실패하면 업로드한 이미지를 지운다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArtworkResponseDto createArtwork(long memberId, long galleryId, ArtworkPostDto requestDto) {
         Gallery findGallery = galleryService.findGallery(galleryId);
+        Long receiverId = findGallery.getMember().getMemberId();
         Artwork artwork = requestDto.toEntity();
         // 이미지 유효성(null) 검증
         if (artwork.getImage() == null) {
             throw new BusinessLogicException(ExceptionCode.IMAGE_NOT_FOUND_FROM_REQUEST);
         }
-        String imageRoot = awsS3Service.uploadFile(artwork.getImage());
+        UploadedImage uploadedImage = imageUploadService.upload(artwork.getImage());
+
+        try {
+            return transactionTemplate.execute(status -> {
+                artwork.setGallery(new Gallery(galleryId));
+                artwork.setMember(new Member(memberId));
+                artwork.setImage(uploadedImage);
+
+                Artwork savedArtwork = artworkRepository.save(artwork);
+                //전시관 주인을 팔로우 하는 회원의 피드에도 전송 (FeedEventListener)
+                artworkEventPublisher.publishArtworkEvent(savedArtwork.toArtworkEvent(ArtworkEventType.CREATE, receiverId));
+
+                //알람 생성
+                alarmEventPublisher.publishAlarmEvent(savedArtwork.toAlarmEvent(receiverId));
+
+                return savedArtwork.toArtworkResponseDto();
+            });
+        } catch (RuntimeException e) {
+            imageUploadService.delete(uploadedImage);
+            throw e;
+        }
+    }
 
-        artwork.setGallery(new Gallery(galleryId));
-        artwork.setMember(new Member(memberId));
-        artwork.setImagePath(imageRoot);
+    public ArtworkResponseDto findArtworkResponseDto(long memberId, long galleryId, long artworkId) {
+        ArtworkResponseDto response = findVerifiedArtworkResponse(galleryId, artworkId);
+        checkMemberLiked(memberId, List.of(response));
 
-        Artwork savedArtwork = artworkRepository.save(artwork);
+        return response;
+    }
 
-        //알람 생성
-        Long receiverId = findGallery.getMember().getMemberId();
-        alarmEventPublisher.publishAlarmEvent(savedArtwork.toAlarmEvent(receiverId));
+    private ArtworkResponseDto findVerifiedArtworkResponse(long galleryId, long artworkId) {
+        ArtworkResponseDto response = artworkRepository.findArtworkResponse(artworkId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.ARTWORK_NOT_FOUND));
 
-        return savedArtwork.toArtworkResponseDto();
+        if (!response.isInOpenGallery()) {
+            throw new BusinessLogicException(ExceptionCode.CLOSED_GALLERY);
+        }
+        if (!response.isCorrectGallery(galleryId)) {
+            throw new BusinessLogicException(ExceptionCode.ARTWORK_NOT_FOUND_FROM_GALLERY);
+        }
+        return response;
     }
 
-    public ArtworkResponseDto findArtworkResponseDto(long memberId, long galleryId, long artworkId) {
-        Artwork foundArtwork = findGalleryVerifiedArtwork(galleryId, artworkId);
-        foundArtwork.setMemberLike(memberId);
+    public List<ArtworkResponseDto> findArtworkResponseDtoList(long memberId, long galleryId) {
+        galleryService.verifiedGalleryExist(galleryId);
+
+        List<ArtworkResponseDto> response = artworkRepository.findArtworkResponseList(galleryId);
+        checkMemberLiked(memberId, response);
 
-        return foundArtwork.toArtworkResponseDto();
+        return response;
     }
 
-    public List<ArtworkResponseDto> findArtworkResponseDtoList(long memberId, long galleryId) {
-        List<Artwork> artworkList = findArtworkList(galleryId);
+    //커서 기반 페이지 조회 (cursor가 null이면 첫 페이지)
+    public ArtworkPageResponseDto<Object> findArtworkResponseDtoPage(long memberId, long galleryId,
+                                                                    String cursor, int size) {
+        galleryService.verifiedGalleryExist(galleryId);
+        int pageSize = Math.min(size, maxPageSize);
+        //다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<ArtworkResponseDto> artworkList;
+        if (cursor == null) {
+            artworkList = artworkRepository.findFirstPage(galleryId, pageRequest);
+        } else {
+            String[] keys = CursorUtils.decode(cursor, 2);
+            artworkList = artworkRepository.findNextPage(galleryId,
+                    parseCursorCreatedAt(keys[0]), parseCursorArtworkId(keys[1]), pageRequest);
+        }
 
-        if (memberId != -1) {
-            artworkList.stream()
-                    .forEach(artwork -> artwork.setMemberLike(memberId));
+        boolean hasNext = artworkList.size() > pageSize;
+        if (hasNext) {
+            artworkList = artworkList.subList(0, pageSize);
         }
+        checkMemberLiked(memberId, artworkList);
 
-        return artworkList.stream()
-                .map(Artwork::toArtworkResponseDto)
+        String nextCursor = null;
+        if (hasNext) {
+            ArtworkResponseDto last = artworkList.get(artworkList.size() - 1);
+            nextCursor = CursorUtils.encode(last.getCreatedAt(), last.getArtworkId());
+        }
+
+        return new ArtworkPageResponseDto<>(galleryId, artworkList, new CursorPageInfo(pageSize, hasNext, nextCursor));
+    }
+
+    //좋아요 수는 저장 대기 중인 토글까지 반영된 인덱스 값으로 덮어쓰고, 로그인 회원이면 좋아요 여부도 채움
+    private void checkMemberLiked(long memberId, List<ArtworkResponseDto> artworkList) {
+        List<Long> artworkIds = artworkList.stream()
+                .map(ArtworkResponseDto::getArtworkId)
                 .collect(Collectors.toList());
+        Map<Long, Integer> likeCounts = artworkLikeIndexRepository.findLoadedLikeCounts(artworkIds);
+        artworkList.forEach(artwork -> Optional.ofNullable(likeCounts.get(artwork.getArtworkId()))
+                .ifPresent(artwork::updateLikeCount));
+
+        if (memberId == -1) {
+            return;
+        }
+        Set<Long> likedArtworkIds = artworkLikeIndexRepository.findLikedArtworkIds(memberId, artworkIds);
+        artworkList.forEach(artwork -> artwork.updateLiked(likedArtworkIds.contains(artwork.getArtworkId())));
+    }
+
+    private LocalDateTime parseCursorCreatedAt(String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    private Long parseCursorArtworkId(String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
     }
     public List<OneYearFourCutResponseDto> findOneYearFourCut(long galleryId) {
         galleryService.verifiedGalleryExist(galleryId);
 
-        List<Artwork> findArtworkList = artworkRepository.findTop4ByGallery_GalleryId(galleryId,
-                Sort.by(desc("likeCount"), desc("createdAt")));
-
-        return findArtworkList.stream()
-                .map(Artwork::toOneYearFourCutResponseDto)
-                .collect(Collectors.toList());
+        //메모리 랭킹에서 조회 (없으면 전시관 단위로 DB에서 적재)
+        return oneYearFourCutRankingRepository.findTop(galleryId);
     }
 
-    @Transactional
+    //작품 등록과 같이 업로드는 트랜잭션 밖에서, 수정 반영만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArtworkResponseDto updateArtwork(long memberId, long galleryId, long artworkId, ArtworkPatchDto requestDto) {
-        Artwork foundArtwork = findGalleryVerifiedArtwork(galleryId, artworkId);
+        ArtworkResponseDto foundArtwork = findVerifiedArtworkResponse(galleryId, artworkId);
 
-        if (!foundArtwork.isOwner(memberId)) {
+        if (foundArtwork.getMemberId() != memberId) {
             throw new BusinessLogicException(ExceptionCode.UNAUTHORIZED);
         }
 
         Artwork request = requestDto.toEntity();
-        Optional<MultipartFile> image = Optional.ofNullable(request.getImage());
-        if (image.isPresent()) {
-            String s3Path = awsS3Service.uploadFile(image.get());
-            awsS3Service.deleteImage(foundArtwork.getImagePath());
-            request.setImagePath(s3Path);
+        Optional<UploadedImage> uploadedImage = Optional.ofNullable(request.getImage())
+                .map(imageUploadService::upload);
+        uploadedImage.ifPresent(request::setImage);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                Artwork modifiedArtwork = findArtwork(artworkId);
+                if (uploadedImage.isPresent()) {
+                    //기존 원본, 변환본 삭제는 수정과 함께 커밋
+                    imageUploadService.delete(modifiedArtwork.getImagePath(),
+                            modifiedArtwork.getMediumPath(), modifiedArtwork.getThumbnailPath());
+                }
+                modifiedArtwork.modify(request);
+                //제목, 내용만 바뀌어도 전시관 응답 버전은 올려야 하므로 항상 발행
+                artworkEventPublisher.publishArtworkEvent(modifiedArtwork.toArtworkEvent(ArtworkEventType.MODIFY));
+                return modifiedArtwork.toArtworkResponseDto();
+            });
+        } catch (RuntimeException e) {
+            uploadedImage.ifPresent(imageUploadService::delete);
+            throw e;
         }
-        foundArtwork.modify(request);
-        return foundArtwork.toArtworkResponseDto();
     }
+
     @Transactional
     public void deleteArtwork(long memberId, long galleryId, long artworkId) {
         Artwork foundArtwork = findGalleryVerifiedArtwork(galleryId, artworkId);
@@ -162,8 +295,13 @@ public class ArtworkService {
             throw new BusinessLogicException(ExceptionCode.UNAUTHORIZED);
         }
 
-        awsS3Service.deleteImage(foundArtwork.getImagePath());
+        imageUploadService.delete(foundArtwork.getImagePath(), foundArtwork.getMediumPath(), foundArtwork.getThumbnailPath());
         artworkRepository.delete(foundArtwork);
+        if (foundArtwork.getCommentCount() > 0) {   //작품과 함께 지워지는 댓글 수만큼 전시관 댓글 수 감소
+            galleryService.decreaseCommentCount(galleryId, foundArtwork.getCommentCount());
+        }
+        artworkEventPublisher.publishArtworkEvent(foundArtwork.toArtworkEvent(ArtworkEventType.DELETE,
+                foundArtwork.getGallery().getMember().getMemberId()));
     }
 }
 
@@ -44,7 +44,7 @@ public class ChatRoomResponseDto {
     public ChatRoomResponseDto of(Member member, ChatRoom chatRoom) {
         return ChatRoomResponseDto.builder()
                 .chatRoomId(chatRoom.getChatRoomId())
-                .profile(member.getProfile())
+                .profile(member.getListProfile())
                 .nickName(member.getNickname())
                 .lastChatDate(chatRoom.getChattedAt())
                 .lastChatDate(chatRoom.getChattedAt())
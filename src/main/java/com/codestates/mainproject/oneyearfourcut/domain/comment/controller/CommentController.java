@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
 
 
 @RestController
@@ -45,18 +46,43 @@ public class CommentController {
     @GetMapping("/{gallery-id}/comments")
     public ResponseEntity<Object> getGalleryComment(@Positive @PathVariable("gallery-id") Long galleryId,
 
-                                                    @RequestParam int page/*, @RequestParam int size*/){ // @Min 검증이 필요할 경우 윤재님이 넣어주세요.
+                                                    @RequestParam int page/*, @RequestParam int size*/, // @Min 검증이 필요할 경우 윤재님이 넣어주세요.
+                                                    @PositiveOrZero @RequestParam(defaultValue = "0") int replyPreview){
                                                     
-        return new ResponseEntity<>(commentService.getGalleryCommentPage(galleryId, page, 10), HttpStatus.OK);
+        return new ResponseEntity<>(commentService.getGalleryCommentPage(galleryId, page, 10, replyPreview), HttpStatus.OK);
     }
 
     //GET (Read) Comment on Artwork (with pagination)
     @GetMapping("/{gallery-id}/artworks/{artwork-id}/comments")
     public ResponseEntity<Object> getArtworkComment(@Positive @PathVariable("gallery-id") Long galleryId,
                                                     @Positive @PathVariable("artwork-id") Long artworkId,
-                                                    @RequestParam int page/*, @RequestParam int size*/) {
+                                                    @RequestParam int page/*, @RequestParam int size*/,
+                                                    @PositiveOrZero @RequestParam(defaultValue = "0") int replyPreview) {
                                                     
-        return new ResponseEntity<>(commentService.getArtworkCommentPage(galleryId, artworkId, page, 10), HttpStatus.OK);
+        return new ResponseEntity<>(commentService.getArtworkCommentPage(galleryId, artworkId, page, 10, replyPreview), HttpStatus.OK);
+    }
+
+    //GET (Read) Comment on Gallery (with cursor, without count query)
+    @GetMapping(value = "/{gallery-id}/comments", params = "size")
+    public ResponseEntity<Object> getGalleryCommentSlice(@Positive @PathVariable("gallery-id") Long galleryId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @Positive @RequestParam int size,
+                                                         @RequestParam(defaultValue = "false") boolean withTotal,
+                                                         @PositiveOrZero @RequestParam(defaultValue = "0") int replyPreview) {
+        return new ResponseEntity<>(
+                commentService.getGalleryCommentSlice(galleryId, cursor, size, withTotal, replyPreview), HttpStatus.OK);
+    }
+
+    //GET (Read) Comment on Artwork (with cursor, without count query)
+    @GetMapping(value = "/{gallery-id}/artworks/{artwork-id}/comments", params = "size")
+    public ResponseEntity<Object> getArtworkCommentSlice(@Positive @PathVariable("gallery-id") Long galleryId,
+                                                         @Positive @PathVariable("artwork-id") Long artworkId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @Positive @RequestParam int size,
+                                                         @RequestParam(defaultValue = "false") boolean withTotal,
+                                                         @PositiveOrZero @RequestParam(defaultValue = "0") int replyPreview) {
+        return new ResponseEntity<>(commentService.getArtworkCommentSlice(
+                galleryId, artworkId, cursor, size, withTotal, replyPreview), HttpStatus.OK);
     }
 
     //PATCH (Update) Comment
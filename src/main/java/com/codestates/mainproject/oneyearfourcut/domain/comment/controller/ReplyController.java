@@ -11,6 +11,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.validation.constraints.Positive;
+
 
 @RestController
 @RequestMapping("/galleries/comments")
@@ -30,8 +32,10 @@ public class ReplyController {
 
     //GET (Read) Reply
     @GetMapping("/{comment-id}/replies")
-    public ResponseEntity<Object> getReply(@PathVariable("comment-id") Long commentId) {
-        return new ResponseEntity<>(replyService.getReplyList(commentId), HttpStatus.OK);
+    public ResponseEntity<Object> getReply(@PathVariable("comment-id") Long commentId,
+                                           @RequestParam(required = false) String cursor,
+                                           @Positive @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(replyService.getReplySlice(commentId, cursor, size), HttpStatus.OK);
     }
 
     //PATCH (Update) Reply
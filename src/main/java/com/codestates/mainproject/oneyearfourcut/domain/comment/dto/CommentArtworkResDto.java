@@ -3,6 +3,7 @@ package com.codestates.mainproject.oneyearfourcut.domain.comment.dto;
 
 import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
 import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -15,11 +16,34 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class CommentArtworkResDto {
+public class CommentArtworkResDto implements ReplyPreviewTarget {
     private Long commentId;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
     private Long memberId;
     private String nickname;
     private String content;
+
+    //답글 미리보기를 요청한 경우에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer replyCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ReplyResDto> replyList;
+
+    //조회 쿼리 프로젝션용 (CommentRepository)
+    public CommentArtworkResDto(Long commentId, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                                Long memberId, String nickname, String content) {
+        this.commentId = commentId;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.content = content;
+    }
+
+    @Override
+    public void updateReplyPreview(int replyCount, List<ReplyResDto> replyList) {
+        this.replyCount = replyCount;
+        this.replyList = replyList;
+    }
 }
@@ -0,0 +1,46 @@
+package com.codestates.mainproject.oneyearfourcut.domain.comment.dto;
+
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import lombok.Getter;
+
+//댓글 작성 대상 검증과 알림 수신자 확인에 필요한 값만 조회 (작성자 닉네임 포함, 작성자가 없으면 null)
+//작품 댓글은 실시간 활동 응답에 쓰는 작품 이미지 경로도 함께 조회
+@Getter
+public class CommentTargetDto {
+    private Long galleryId;
+    private GalleryStatus galleryStatus;
+    private Long galleryMemberId;
+    private Long artworkId;
+    private Long artworkMemberId;
+    private String artworkImagePath;
+    private String writerNickname;
+
+    //전시관 댓글
+    public CommentTargetDto(Long galleryId, GalleryStatus galleryStatus, Long galleryMemberId, String writerNickname) {
+        this(galleryId, galleryStatus, galleryMemberId, null, null, null, writerNickname);
+    }
+
+    //작품 댓글
+    public CommentTargetDto(Long galleryId, GalleryStatus galleryStatus, Long galleryMemberId,
+                            Long artworkId, Long artworkMemberId, String artworkImagePath, String writerNickname) {
+        this.galleryId = galleryId;
+        this.galleryStatus = galleryStatus;
+        this.galleryMemberId = galleryMemberId;
+        this.artworkId = artworkId;
+        this.artworkMemberId = artworkMemberId;
+        this.artworkImagePath = artworkImagePath;
+        this.writerNickname = writerNickname;
+    }
+
+    public boolean isInOpenGallery() {
+        return this.galleryStatus == GalleryStatus.OPEN;
+    }
+
+    public boolean isCorrectGallery(long galleryId) {
+        return this.galleryId == galleryId;
+    }
+
+    public boolean hasWriter() {
+        return this.writerNickname != null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.codestates.mainproject.oneyearfourcut.domain.comment.dto;
+
+import java.time.LocalDateTime;
+
+//답글 미리보기 조회 결과 한 행 (ReplyRepository.findReplyPreviewList)
+public interface ReplyPreviewRow {
+    Long getCommentId();
+    Long getReplyId();
+    Long getMemberId();
+    String getNickname();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getModifiedAt();
+    Long getReplyCount();
+
+    default ReplyResDto toReplyResponseDto() {
+        return ReplyResDto.builder()
+                .replyId(getReplyId())
+                .memberId(getMemberId())
+                .nickname(getNickname())
+                .content(getContent())
+                .createdAt(getCreatedAt())
+                .modifiedAt(getModifiedAt())
+                .build();
+    }
+}
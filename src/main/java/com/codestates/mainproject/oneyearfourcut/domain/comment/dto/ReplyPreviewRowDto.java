@@ -0,0 +1,20 @@
+package com.codestates.mainproject.oneyearfourcut.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//JDBC로 조회한 답글 미리보기 한 행 (ReplyPreviewRepository의 윈도우 함수 없는 조회)
+@Getter
+@AllArgsConstructor
+public class ReplyPreviewRowDto implements ReplyPreviewRow {
+    private Long commentId;
+    private Long replyId;
+    private Long memberId;
+    private String nickname;
+    private String content;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private Long replyCount;
+}
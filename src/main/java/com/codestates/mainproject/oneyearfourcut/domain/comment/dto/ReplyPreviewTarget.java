@@ -0,0 +1,10 @@
+package com.codestates.mainproject.oneyearfourcut.domain.comment.dto;
+
+import java.util.List;
+
+//답글 미리보기를 붙일 수 있는 댓글 응답 (전시관 댓글, 작품 댓글)
+public interface ReplyPreviewTarget {
+    Long getCommentId();
+
+    void updateReplyPreview(int replyCount, List<ReplyResDto> replyList);
+}
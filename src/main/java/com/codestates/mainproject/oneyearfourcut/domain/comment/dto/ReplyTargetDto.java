@@ -0,0 +1,33 @@
+package com.codestates.mainproject.oneyearfourcut.domain.comment.dto;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//답글 작성 대상 댓글 검증과 알림 수신자 확인에 필요한 값만 조회 (작성자 닉네임 포함, 작성자가 없으면 null)
+@Getter
+@AllArgsConstructor
+public class ReplyTargetDto {
+    private Long commentId;
+    private Long galleryId;
+    private Long artworkId; //전시관 댓글이면 null
+    private Long commentMemberId;
+    private String writerNickname;
+
+    public boolean hasWriter() {
+        return this.writerNickname != null;
+    }
+
+    public AlarmEvent toAlarmEvent(Long senderId) {
+        AlarmType alarmType = this.artworkId == null ? AlarmType.REPLY_GALLERY : AlarmType.REPLY_ARTWORK; //null 여부에 따라 타입 결정
+
+        return AlarmEvent.builder()
+                .receiverId(this.commentMemberId)
+                .senderId(senderId)
+                .alarmType(alarmType)
+                .galleryId(this.galleryId)
+                .artworkId(this.artworkId)
+                .build();
+    }
+}
@@ -19,13 +19,17 @@ import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
-@Table(name = "comment")
+@Table(name = "comment", indexes = {   //댓글 커서 페이지네이션 (commentId 내림차순)
+        @Index(name = "idx_comment_gallery_comment", columnList = "gallery_id, comment_id"),
+        @Index(name = "idx_comment_artwork_comment", columnList = "artwork_id, comment_id")
+})
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends Auditable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "comment_id")
     private Long commentId;
 
     @Column(length = 30, nullable = false)
@@ -85,6 +89,14 @@ public class Comment extends Auditable {
     /* toDto */
     // 댓글 전체 조회
     public CommentGalleryResDto toCommentGalleryResponseDto() {
+        return toCommentGalleryResponseDto(this.member.getNickname());
+    }
+    //작성자를 참조로만 가진 경우 (작성 직후) 조회한 닉네임 사용
+    public CommentGalleryResDto toCommentGalleryResponseDto(String nickname) {
+        return toCommentGalleryResponseDto(nickname, this.getImagePath());
+    }
+    //작품도 참조로만 가진 경우 (작품 댓글 작성 직후) 조회한 작품 이미지 경로 사용
+    public CommentGalleryResDto toCommentGalleryResponseDto(String nickname, String imagePath) {
         return CommentGalleryResDto.builder()
                 .commentId(this.commentId)
                 .createdAt(this.createdAt)
@@ -92,19 +104,22 @@ public class Comment extends Auditable {
                 .content(this.content)
                 .artworkId(this.getArtworkId())
                 .memberId(this.member.getMemberId())
-                .nickname(this.member.getNickname())
-                .imagePath(this.getImagePath())
+                .nickname(nickname)
+                .imagePath(imagePath)
                 .build();
     }
     // 작품 댓글 조회
     public CommentArtworkResDto toCommentArtworkResponseDto(){
+        return toCommentArtworkResponseDto(this.getMember().getNickname());
+    }
+    public CommentArtworkResDto toCommentArtworkResponseDto(String nickname){
         return CommentArtworkResDto.builder()
                 .commentId(this.getCommentId())
                 .createdAt(this.getCreatedAt())
                 .modifiedAt(this.getModifiedAt())
                 .content(this.getContent())
                 .memberId(this.getMember().getMemberId())
-                .nickname(this.getMember().getNickname())
+                .nickname(nickname)
                 .build();
     }
     public AlarmEvent toAlarmEvent(Long receiverId) {
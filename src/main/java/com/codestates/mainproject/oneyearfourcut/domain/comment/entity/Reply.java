@@ -1,7 +1,5 @@
 package com.codestates.mainproject.oneyearfourcut.domain.comment.entity;
 
-import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
-import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEvent;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyResDto;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
@@ -9,6 +7,9 @@ import lombok.*;
 
 import javax.persistence.*;
 
+@Table(name = "reply", indexes = {   //댓글별 답글 조회 (replyId 내림차순)
+        @Index(name = "idx_reply_comment_reply", columnList = "comment_id, reply_id")
+})
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,6 +17,7 @@ public class Reply extends Auditable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reply_id")
     private Long replyId;
 
     @Column(length = 30, nullable = false) // nullable = false 추가해도 될까요?
@@ -42,26 +44,18 @@ public class Reply extends Auditable {
     }
 
     public ReplyResDto toReplyResponseDto(){
+        return toReplyResponseDto(this.getMember().getNickname());
+    }
+
+    //작성자를 참조로만 가진 경우 (작성 직후) 조회한 닉네임 사용
+    public ReplyResDto toReplyResponseDto(String nickname){
         return ReplyResDto.builder()
                 .replyId(this.getReplyId())
                 .createdAt(this.getCreatedAt())
                 .modifiedAt(this.getModifiedAt())
                 .content(this.getContent())
                 .memberId(this.getMember().getMemberId())
-                .nickname(this.getMember().getNickname())
-                .build();
-    }
-
-    public AlarmEvent toAlarmEvent(Long receiverId) {
-        Long artworkId = this.getComment().getArtworkId();    // 작품 댓글이 아닌 경우라면 null이 됨
-        AlarmType alarmType = artworkId == null ? AlarmType.REPLY_GALLERY : AlarmType.REPLY_ARTWORK; //null 여부에 따라 타입 결정
-
-        return AlarmEvent.builder()
-                .receiverId(receiverId)
-                .senderId(this.getMember().getMemberId())
-                .alarmType(alarmType)
-                .galleryId(this.getComment().getGallery().getGalleryId())
-                .artworkId(artworkId)
+                .nickname(nickname)
                 .build();
     }
 }
@@ -0,0 +1,18 @@
+package com.codestates.mainproject.oneyearfourcut.domain.comment.event;
+
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentGalleryResDto;
+import lombok.Builder;
+import lombok.Getter;
+
+//새 댓글 (전시관 실시간 활동 전송용)
+@Getter
+public class CommentEvent {
+    private final Long galleryId;
+    private final CommentGalleryResDto comment;
+
+    @Builder
+    public CommentEvent(Long galleryId, CommentGalleryResDto comment) {
+        this.galleryId = galleryId;
+        this.comment = comment;
+    }
+}
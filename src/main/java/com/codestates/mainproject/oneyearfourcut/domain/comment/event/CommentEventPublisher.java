@@ -0,0 +1,15 @@
+package com.codestates.mainproject.oneyearfourcut.domain.comment.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentEventPublisher {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publishCommentEvent(CommentEvent commentEvent) {
+        applicationEventPublisher.publishEvent(commentEvent);
+    }
+}
@@ -1,20 +1,73 @@
 package com.codestates.mainproject.oneyearfourcut.domain.comment.repository;
 
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentArtworkResDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentGalleryResDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentTargetDto;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, PagingAndSortingRepository<Comment,Long> {
 
-    Page<Comment> findAllByGallery_GalleryIdOrderByCommentIdDesc
-            (Long galleryId, Pageable pageable);
-    Page<Comment> findAllByArtwork_ArtworkIdOrderByCommentIdDesc
-            (Long galleryId, Pageable pageable);
+    //응답 DTO 프로젝션 (작성자 닉네임, 작품 이미지 경로를 join으로 함께 조회해 댓글마다 추가 조회가 없도록)
+    String COMMENT_GALLERY_RESPONSE_SELECT = "SELECT new com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentGalleryResDto(" +
+            "c.commentId, c.createdAt, c.modifiedAt, m.memberId, m.nickname, c.content, a.artworkId, a.imagePath)" +
+            " FROM Comment c JOIN c.member m LEFT JOIN c.artwork a";
+    String COMMENT_ARTWORK_RESPONSE_SELECT = "SELECT new com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentArtworkResDto(" +
+            "c.commentId, c.createdAt, c.modifiedAt, m.memberId, m.nickname, c.content)" +
+            " FROM Comment c JOIN c.member m";
+
+    @Query(value = COMMENT_GALLERY_RESPONSE_SELECT +
+            " WHERE c.gallery.galleryId = :galleryId ORDER BY c.commentId DESC",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.gallery.galleryId = :galleryId")
+    Page<CommentGalleryResDto> findGalleryResponsePage(@Param("galleryId") Long galleryId, Pageable pageable);
+
+    @Query(value = COMMENT_ARTWORK_RESPONSE_SELECT +
+            " WHERE c.artwork.artworkId = :artworkId ORDER BY c.commentId DESC",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.artwork.artworkId = :artworkId")
+    Page<CommentArtworkResDto> findArtworkResponsePage(@Param("artworkId") Long artworkId, Pageable pageable);
 
     List<Comment> findAllByArtwork_ArtworkId(Long ArtworkId);
 
+    //커서 페이지네이션 (commentId 내림차순), count 쿼리가 없도록 List로 반환
+    @Query(COMMENT_GALLERY_RESPONSE_SELECT +
+            " WHERE c.gallery.galleryId = :galleryId ORDER BY c.commentId DESC")
+    List<CommentGalleryResDto> findGalleryResponseFirstPage(@Param("galleryId") Long galleryId, Pageable pageable);
+
+    @Query(COMMENT_GALLERY_RESPONSE_SELECT +
+            " WHERE c.gallery.galleryId = :galleryId AND c.commentId < :commentId ORDER BY c.commentId DESC")
+    List<CommentGalleryResDto> findGalleryResponseNextPage(@Param("galleryId") Long galleryId,
+                                                           @Param("commentId") Long commentId,
+                                                           Pageable pageable);
+
+    @Query(COMMENT_ARTWORK_RESPONSE_SELECT +
+            " WHERE c.artwork.artworkId = :artworkId ORDER BY c.commentId DESC")
+    List<CommentArtworkResDto> findArtworkResponseFirstPage(@Param("artworkId") Long artworkId, Pageable pageable);
+
+    @Query(COMMENT_ARTWORK_RESPONSE_SELECT +
+            " WHERE c.artwork.artworkId = :artworkId AND c.commentId < :commentId ORDER BY c.commentId DESC")
+    List<CommentArtworkResDto> findArtworkResponseNextPage(@Param("artworkId") Long artworkId,
+                                                           @Param("commentId") Long commentId,
+                                                           Pageable pageable);
+
+    //댓글 작성 대상 조회 (전시관 주인, 작품 작성자는 외래키 값만 사용, 작성자 닉네임도 함께 조회)
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentTargetDto(" +
+            "g.galleryId, g.status, g.member.memberId, w.nickname)" +
+            " FROM Gallery g LEFT JOIN Member w ON w.memberId = :memberId WHERE g.galleryId = :galleryId")
+    Optional<CommentTargetDto> findGalleryCommentTarget(@Param("galleryId") Long galleryId,
+                                                        @Param("memberId") Long memberId);
+
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentTargetDto(" +
+            "g.galleryId, g.status, g.member.memberId, a.artworkId, a.member.memberId, a.imagePath, w.nickname)" +
+            " FROM Artwork a JOIN a.gallery g LEFT JOIN Member w ON w.memberId = :memberId" +
+            " WHERE a.artworkId = :artworkId")
+    Optional<CommentTargetDto> findArtworkCommentTarget(@Param("artworkId") Long artworkId,
+                                                        @Param("memberId") Long memberId);
 }
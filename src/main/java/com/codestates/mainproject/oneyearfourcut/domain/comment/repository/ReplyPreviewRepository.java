@@ -0,0 +1,79 @@
+package com.codestates.mainproject.oneyearfourcut.domain.comment.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyPreviewRow;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyPreviewRowDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 댓글의 답글 수와 최신 답글을 한 번에 조회
+ * - 윈도우 함수(ROW_NUMBER, COUNT OVER)는 MySQL 8.0+, MariaDB 10.2+에서만 동작한다.
+ * - comment.reply-preview.window-function이 false면 댓글별 LIMIT 조회를 UNION ALL로 묶은 한 문장으로 대신한다.
+ *   댓글마다 (comment_id, reply_id) 인덱스로 최신 size개와 개수만 읽으므로 이전 버전에서도 비용이 같다.
+ */
+@Repository
+public class ReplyPreviewRepository {
+    private static final String PREVIEW_BRANCH_SQL =
+            "(SELECT r.comment_id, r.reply_id, r.member_id, m.nickname, r.content," +
+            " r.created_at, r.last_modified_at," +
+            " (SELECT COUNT(*) FROM reply c WHERE c.comment_id = ?) AS reply_count" +
+            " FROM reply r JOIN member m ON m.member_id = r.member_id" +
+            " WHERE r.comment_id = ? ORDER BY r.reply_id DESC LIMIT ?)";
+
+    private final ReplyRepository replyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean windowFunction;
+
+    public ReplyPreviewRepository(ReplyRepository replyRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  @Value("${comment.reply-preview.window-function:true}") boolean windowFunction) {
+        this.replyRepository = replyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.windowFunction = windowFunction;
+    }
+
+    //답글이 없는 댓글은 결과에 없음 (댓글 id 오름차순, 답글 id 내림차순)
+    public List<ReplyPreviewRow> findReplyPreviewList(Collection<Long> commentIds, int size) {
+        if (windowFunction) {
+            return replyRepository.findReplyPreviewList(commentIds, size);
+        }
+
+        List<Long> sortedIds = commentIds.stream().distinct().sorted().collect(Collectors.toList());
+        String sql = sortedIds.stream()
+                .map(id -> PREVIEW_BRANCH_SQL)
+                .collect(Collectors.joining(" UNION ALL "));
+        List<Object> params = new ArrayList<>();
+        for (Long commentId : sortedIds) {
+            params.add(commentId);
+            params.add(commentId);
+            params.add(size);
+        }
+        return jdbcTemplate.query(sql, this::toReplyPreviewRow, params.toArray());
+    }
+
+    private ReplyPreviewRow toReplyPreviewRow(ResultSet rs, int rowNum) throws SQLException {
+        return new ReplyPreviewRowDto(
+                rs.getLong("comment_id"),
+                rs.getLong("reply_id"),
+                rs.getLong("member_id"),
+                rs.getString("nickname"),
+                rs.getString("content"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("last_modified_at")),
+                rs.getLong("reply_count"));
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
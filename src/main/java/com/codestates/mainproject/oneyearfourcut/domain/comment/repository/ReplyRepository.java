@@ -1,12 +1,55 @@
 package com.codestates.mainproject.oneyearfourcut.domain.comment.repository;
 
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyPreviewRow;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyResDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyTargetDto;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Reply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long>, PagingAndSortingRepository<Reply,Long> {
-    List<Reply> findAllByComment_CommentIdOrderByReplyIdDesc(Long commentId);
+    //응답 DTO 프로젝션 (작성자 닉네임을 join으로 함께 조회해 답글마다 추가 조회가 없도록)
+    String REPLY_RESPONSE_SELECT = "SELECT new com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyResDto(" +
+            "r.replyId, m.memberId, m.nickname, r.content, r.createdAt, r.modifiedAt)" +
+            " FROM Reply r JOIN r.member m";
 
+    //커서 페이지네이션 (replyId 내림차순), count 쿼리가 없도록 List로 반환
+    @Query(REPLY_RESPONSE_SELECT +
+            " WHERE r.comment.commentId = :commentId ORDER BY r.replyId DESC")
+    List<ReplyResDto> findReplyResponseFirstPage(@Param("commentId") Long commentId, Pageable pageable);
+
+    @Query(REPLY_RESPONSE_SELECT +
+            " WHERE r.comment.commentId = :commentId AND r.replyId < :replyId ORDER BY r.replyId DESC")
+    List<ReplyResDto> findReplyResponseNextPage(@Param("commentId") Long commentId,
+                                                @Param("replyId") Long replyId,
+                                                Pageable pageable);
+
+    //여러 댓글의 답글 수와 최신 답글 size개를 한 번에 조회 (답글이 없는 댓글은 결과에 없음)
+    //윈도우 함수가 필요해 MySQL 8.0+, MariaDB 10.2+에서만 동작 (이전 버전은 ReplyPreviewRepository의 UNION ALL 조회)
+    @Query(value = "SELECT t.comment_id AS commentId, t.reply_id AS replyId, t.member_id AS memberId," +
+            " t.nickname AS nickname, t.content AS content, t.created_at AS createdAt," +
+            " t.last_modified_at AS modifiedAt, t.reply_count AS replyCount" +
+            " FROM (SELECT r.comment_id, r.reply_id, r.member_id, m.nickname, r.content," +
+            " r.created_at, r.last_modified_at," +
+            " ROW_NUMBER() OVER (PARTITION BY r.comment_id ORDER BY r.reply_id DESC) AS reply_rank," +
+            " COUNT(*) OVER (PARTITION BY r.comment_id) AS reply_count" +
+            " FROM reply r JOIN member m ON m.member_id = r.member_id" +
+            " WHERE r.comment_id IN (:commentIds)) t" +
+            " WHERE t.reply_rank <= :size" +
+            " ORDER BY t.comment_id, t.reply_id DESC", nativeQuery = true)
+    List<ReplyPreviewRow> findReplyPreviewList(@Param("commentIds") Collection<Long> commentIds,
+                                               @Param("size") int size);
+
+    //답글 작성 대상 댓글 조회 (전시관, 작품, 댓글 작성자는 외래키 값만 사용, 답글 작성자 닉네임도 함께 조회)
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyTargetDto(" +
+            "c.commentId, c.gallery.galleryId, c.artwork.artworkId, c.member.memberId, w.nickname)" +
+            " FROM Comment c LEFT JOIN Member w ON w.memberId = :memberId WHERE c.commentId = :commentId")
+    Optional<ReplyTargetDto> findReplyTarget(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
 }
@@ -6,24 +6,31 @@ import com.codestates.mainproject.oneyearfourcut.domain.artwork.service.ArtworkS
 import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentArtworkResDto;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentGalleryResDto;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentRequestDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentTargetDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyPreviewRow;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyPreviewTarget;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyResDto;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.event.CommentEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.event.CommentEventPublisher;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.CommentRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.ReplyPreviewRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.event.GalleryEventPublisher;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.service.GalleryService;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
-import com.codestates.mainproject.oneyearfourcut.domain.member.service.MemberService;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
 import com.codestates.mainproject.oneyearfourcut.global.page.*;
+import com.codestates.mainproject.oneyearfourcut.global.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 
@@ -32,56 +39,87 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CommentService {
     private final CommentRepository commentRepository;
-    private final MemberService memberService;
+    private final ReplyPreviewRepository replyPreviewRepository;
     private final GalleryService galleryService;
     private final ArtworkService artworkService;
     private final AlarmEventPublisher alarmEventPublisher;
+    private final GalleryEventPublisher galleryEventPublisher;
+    private final CommentEventPublisher commentEventPublisher;
 
+    @Value("${comment.page.max-size:50}")
+    private int maxPageSize;
+    @Value("${comment.reply-preview.max-size:5}")
+    private int maxReplyPreviewSize;
+
+    //작성은 엔티티를 읽지 않고 검증용 프로젝션 한 번 조회 후 참조로 저장 (대상 조회, 저장, 댓글 수 갱신)
     @Transactional
     public CommentGalleryHeadDto<Object> createCommentOnGallery(CommentRequestDto commentRequestDto,
                                                                 Long galleryId, Long memberId) {
-        Member member = memberService.findMember(memberId);
-        Gallery gallery = galleryService.findGallery(galleryId);
-        Comment savedComment =
-                commentRepository.save(commentRequestDto.toCommentEntity(member, gallery));
+        CommentTargetDto target = commentRepository.findGalleryCommentTarget(galleryId, memberId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.GALLERY_NOT_FOUND));
+        verifyCommentTarget(target);
+
+        Comment savedComment = commentRepository.save(
+                commentRequestDto.toCommentEntity(new Member(memberId), new Gallery(galleryId)));
+        galleryService.increaseCommentCount(galleryId);
 
         //알림 생성
-        Long receiverId = gallery.getMember().getMemberId();
-        alarmEventPublisher.publishAlarmEvent(savedComment.toAlarmEvent(receiverId));
+        alarmEventPublisher.publishAlarmEvent(savedComment.toAlarmEvent(target.getGalleryMemberId()));
+        galleryEventPublisher.publishGalleryEvent(galleryId);
 
-        return new CommentGalleryHeadDto<>(galleryId, savedComment.toCommentGalleryResponseDto());
+        CommentGalleryResDto response = savedComment.toCommentGalleryResponseDto(target.getWriterNickname());
+        commentEventPublisher.publishCommentEvent(new CommentEvent(galleryId, response));
+        return new CommentGalleryHeadDto<>(galleryId, response);
     }
 
     @Transactional
     public CommentArtworkHeadDto<Object> createCommentOnArtwork(CommentRequestDto commentRequestDto,
                                                                 Long galleryId, Long artworkId, Long memberId) {
-        Member member = memberService.findMember(memberId);
-        Gallery gallery = galleryService.findGallery(galleryId);
-        Artwork artwork = artworkService.findArtwork(artworkId);
-        Comment savedComment = commentRepository.save(
-                commentRequestDto.toCommentEntity(member, gallery, artwork));
+        CommentTargetDto target = commentRepository.findArtworkCommentTarget(artworkId, memberId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.ARTWORK_NOT_FOUND));
+        if (!target.isCorrectGallery(galleryId)) {
+            throw new BusinessLogicException(ExceptionCode.ARTWORK_NOT_FOUND_FROM_GALLERY);
+        }
+        verifyCommentTarget(target);
+
+        Comment savedComment = commentRepository.save(commentRequestDto.toCommentEntity(
+                new Member(memberId), new Gallery(galleryId), new Artwork(artworkId)));
+        artworkService.increaseCommentCount(artworkId);
+        galleryService.increaseCommentCount(galleryId);
 
         //전시관 주인에게 알림 생성
-        Long galleryReceiverId = gallery.getMember().getMemberId();
+        Long galleryReceiverId = target.getGalleryMemberId();
         alarmEventPublisher.publishAlarmEvent(savedComment.toAlarmEvent(galleryReceiverId));
         //작품 주인에게 알림 생성
-        Long artworkReceiverId = artwork.getMember().getMemberId();
-        if (artworkReceiverId != galleryReceiverId) {   //자기 전시관에 단 작품이면 알람이 한 번만 오도록 처리
+        Long artworkReceiverId = target.getArtworkMemberId();
+        if (!Objects.equals(artworkReceiverId, galleryReceiverId)) {   //자기 전시관에 단 작품이면 알람이 한 번만 오도록 처리
             alarmEventPublisher.publishAlarmEvent(savedComment.toAlarmEvent(artworkReceiverId));
         }
+        galleryEventPublisher.publishGalleryEvent(galleryId);
+        commentEventPublisher.publishCommentEvent(new CommentEvent(galleryId,
+                savedComment.toCommentGalleryResponseDto(target.getWriterNickname(), target.getArtworkImagePath())));
 
-        return new CommentArtworkHeadDto<>(galleryId, artworkId, savedComment.toCommentArtworkResponseDto());
+        return new CommentArtworkHeadDto<>(galleryId, artworkId,
+                savedComment.toCommentArtworkResponseDto(target.getWriterNickname()));
     }
 
-    public CommentGalleryPageResponseDto<Object> getGalleryCommentPage(Long galleryId, int page, int size) {
+    private void verifyCommentTarget(CommentTargetDto target) {
+        if (!target.hasWriter()) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
+        }
+        if (!target.isInOpenGallery()) {
+            throw new BusinessLogicException(ExceptionCode.CLOSED_GALLERY);
+        }
+    }
+
+    public CommentGalleryPageResponseDto<Object> getGalleryCommentPage(Long galleryId, int page, int size,
+                                                                       int replyPreview) {
         galleryService.verifiedGalleryExist(galleryId);
-        Page<Comment> commentPage = commentRepository.findAllByGallery_GalleryIdOrderByCommentIdDesc(
+        Page<CommentGalleryResDto> commentPage = commentRepository.findGalleryResponsePage(
                 galleryId, PageRequest.of(page - 1, size));
 
-        List<CommentGalleryResDto> response =
-                commentPage.getContent().stream()
-                        .map(Comment::toCommentGalleryResponseDto)
-                        .collect(Collectors.toList());
+        List<CommentGalleryResDto> response = commentPage.getContent();
+        addReplyPreview(response, replyPreview);
         PageInfo<Object> pageInfo = new PageInfo<>(
                 page, size, (int) commentPage.getTotalElements(), commentPage.getTotalPages());
 
@@ -89,20 +127,109 @@ public class CommentService {
     }
 
     public CommentArtworkPageResponseDto<Object> getArtworkCommentPage(Long galleryId, Long artworkId,
-                                                                       int page, int size) {
+                                                                       int page, int size, int replyPreview) {
         artworkService.checkGalleryArtworkVerification(galleryId, artworkId);
-        Page<Comment> commentPage = commentRepository.findAllByArtwork_ArtworkIdOrderByCommentIdDesc(
+        Page<CommentArtworkResDto> commentPage = commentRepository.findArtworkResponsePage(
                 artworkId, PageRequest.of(page - 1, size));
 
-        List<CommentArtworkResDto> response = commentPage.getContent().stream()
-                .map(Comment::toCommentArtworkResponseDto)
-                .collect(Collectors.toList());
+        List<CommentArtworkResDto> response = commentPage.getContent();
+        addReplyPreview(response, replyPreview);
         PageInfo<Object> pageInfo = new PageInfo<>(
                 page, size, (int) commentPage.getTotalElements(), commentPage.getTotalPages());
 
         return new CommentArtworkPageResponseDto<>(galleryId, artworkId, response, pageInfo);
     }
 
+    //커서 기반 페이지 조회 (cursor가 null이면 첫 페이지), 깊은 페이지도 첫 페이지와 같은 비용
+    //전체 개수는 withTotal일 때만 카운터 컬럼에서 읽음 (COUNT 쿼리 없음)
+    public CommentGalleryCursorResponseDto<Object> getGalleryCommentSlice(Long galleryId, String cursor, int size,
+                                                                         boolean withTotal, int replyPreview) {
+        galleryService.verifiedGalleryExist(galleryId);
+        int pageSize = Math.min(size, maxPageSize);
+        //다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<CommentGalleryResDto> commentList;
+        if (cursor == null) {
+            commentList = commentRepository.findGalleryResponseFirstPage(galleryId, pageRequest);
+        } else {
+            commentList = commentRepository.findGalleryResponseNextPage(
+                    galleryId, parseCursorCommentId(cursor), pageRequest);
+        }
+
+        boolean hasNext = commentList.size() > pageSize;
+        List<CommentGalleryResDto> response = hasNext ? commentList.subList(0, pageSize) : commentList;
+        addReplyPreview(response, replyPreview);
+        CursorPageInfo pageInfo = toCursorPageInfo(
+                pageSize, hasNext, hasNext ? response.get(pageSize - 1).getCommentId() : null);
+        Integer totalElements = withTotal ? galleryService.findCommentCount(galleryId) : null;
+
+        return new CommentGalleryCursorResponseDto<>(galleryId, response, pageInfo, totalElements);
+    }
+
+    public CommentArtworkCursorResponseDto<Object> getArtworkCommentSlice(Long galleryId, Long artworkId,
+                                                                         String cursor, int size, boolean withTotal,
+                                                                         int replyPreview) {
+        artworkService.checkGalleryArtworkVerification(galleryId, artworkId);
+        int pageSize = Math.min(size, maxPageSize);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<CommentArtworkResDto> commentList;
+        if (cursor == null) {
+            commentList = commentRepository.findArtworkResponseFirstPage(artworkId, pageRequest);
+        } else {
+            commentList = commentRepository.findArtworkResponseNextPage(
+                    artworkId, parseCursorCommentId(cursor), pageRequest);
+        }
+
+        boolean hasNext = commentList.size() > pageSize;
+        List<CommentArtworkResDto> response = hasNext ? commentList.subList(0, pageSize) : commentList;
+        addReplyPreview(response, replyPreview);
+        CursorPageInfo pageInfo = toCursorPageInfo(
+                pageSize, hasNext, hasNext ? response.get(pageSize - 1).getCommentId() : null);
+        //검증할 때 읽은 작품이라 추가 조회 없음
+        Integer totalElements = withTotal ? artworkService.findArtwork(artworkId).getCommentCount() : null;
+
+        return new CommentArtworkCursorResponseDto<>(galleryId, artworkId, response, pageInfo, totalElements);
+    }
+
+    //페이지의 모든 댓글에 답글 수와 최신 답글 replyPreview개를 채움 (댓글 수와 관계없이 답글 조회 한 번)
+    //replyPreview가 0이면 조회하지 않고 응답에서도 빠짐
+    private void addReplyPreview(List<? extends ReplyPreviewTarget> commentList, int replyPreview) {
+        int previewSize = Math.min(replyPreview, maxReplyPreviewSize);
+        if (previewSize <= 0 || commentList.isEmpty()) {
+            return;
+        }
+        List<Long> commentIds = commentList.stream()
+                .map(ReplyPreviewTarget::getCommentId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<ReplyResDto>> replyLists = new HashMap<>();
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        for (ReplyPreviewRow row : replyPreviewRepository.findReplyPreviewList(commentIds, previewSize)) {
+            replyLists.computeIfAbsent(row.getCommentId(), id -> new ArrayList<>()).add(row.toReplyResponseDto());
+            replyCounts.put(row.getCommentId(), row.getReplyCount().intValue());
+        }
+
+        commentList.forEach(comment -> comment.updateReplyPreview(
+                replyCounts.getOrDefault(comment.getCommentId(), 0),
+                replyLists.getOrDefault(comment.getCommentId(), new ArrayList<>())));
+    }
+
+    private CursorPageInfo toCursorPageInfo(int pageSize, boolean hasNext, Long lastCommentId) {
+        String nextCursor = hasNext ? CursorUtils.encode(lastCommentId) : null;
+        return new CursorPageInfo(pageSize, hasNext, nextCursor);
+    }
+
+    private Long parseCursorCommentId(String cursor) {
+        String[] keys = CursorUtils.decode(cursor, 1);
+        try {
+            return Long.valueOf(keys[0]);
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
     @Transactional
     public CommentGalleryHeadDto<Object> modifyComment(Long galleryId, Long commentId,
                                                        CommentRequestDto commentRequestDto, Long memberId) {
@@ -112,6 +239,7 @@ public class CommentService {
         }
         Optional.ofNullable(commentRequestDto.getContent())
                 .ifPresent(foundComment::changeContent);
+        galleryEventPublisher.publishGalleryEvent(galleryId);
         return new CommentGalleryHeadDto<>(galleryId, foundComment.toCommentGalleryResponseDto());
     }
 
@@ -122,7 +250,19 @@ public class CommentService {
             throw new BusinessLogicException(ExceptionCode.UNAUTHORIZED);
         }
 
+        Long artworkId = foundComment.getArtworkId();
+        if (artworkId != null) {    //작품 댓글인 경우 작품의 댓글 수 감소
+            artworkService.decreaseCommentCount(artworkId);
+        }
+        galleryService.decreaseCommentCount(galleryId, 1);
         commentRepository.delete(foundComment);
+        galleryEventPublisher.publishGalleryEvent(galleryId);
+    }
+
+    public void verifiedCommentExist(Long commentId) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND);
+        }
     }
 
     public Comment findComment(Long commentId) {
@@ -3,6 +3,7 @@ package com.codestates.mainproject.oneyearfourcut.domain.comment.service;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEventPublisher;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentRequestDto;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyResDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyTargetDto;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Reply;
 import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.ReplyRepository;
@@ -10,58 +11,90 @@ import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import com.codestates.mainproject.oneyearfourcut.domain.member.service.MemberService;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import com.codestates.mainproject.oneyearfourcut.global.page.CursorPageInfo;
+import com.codestates.mainproject.oneyearfourcut.global.page.ReplyCursorResponseDto;
 import com.codestates.mainproject.oneyearfourcut.global.page.ReplyListResponseDto;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import com.codestates.mainproject.oneyearfourcut.global.util.CursorUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class ReplyService {
     private final ReplyRepository replyRepository;
     private final CommentService commentService;
     private final AlarmEventPublisher alarmEventPublisher;
+    private final int maxPageSize;
+
+    public ReplyService(ReplyRepository replyRepository,
+                        CommentService commentService,
+                        AlarmEventPublisher alarmEventPublisher,
+                        @Value("${reply.page.max-size:50}") int maxPageSize) {
+        this.replyRepository = replyRepository;
+        this.commentService = commentService;
+        this.alarmEventPublisher = alarmEventPublisher;
+        this.maxPageSize = maxPageSize;
+    }
 
     //Create
+    //댓글과 작성자를 읽지 않고 검증용 프로젝션 한 번 조회 후 참조로 저장
     @Transactional
     public ReplyListResponseDto<Object> createReply(CommentRequestDto commentRequestDto, Long commentId, Long memberId) {
-        Comment findComment = commentService.findComment(commentId);
+        ReplyTargetDto target = replyRepository.findReplyTarget(commentId, memberId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.COMMENT_NOT_FOUND));
+        if (!target.hasWriter()) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
+        }
         Reply reply = Reply.builder()
                 .content(commentRequestDto.getContent())
-                .comment(findComment)
+                .comment(new Comment(commentId))
                 .member(new Member(memberId))
                 .build();
         Reply savedReply = replyRepository.save(reply);
 
         //알람 생성
         //댓글 주인 한테만 보내나? 전시관 주인은?
-        Long receiverId = savedReply.getComment().getMember().getMemberId();
-        alarmEventPublisher.publishAlarmEvent(savedReply.toAlarmEvent(receiverId));
+        alarmEventPublisher.publishAlarmEvent(target.toAlarmEvent(memberId));
 
-        return new ReplyListResponseDto<>(commentId, reply.toReplyResponseDto());
+        return new ReplyListResponseDto<>(commentId, savedReply.toReplyResponseDto(target.getWriterNickname()));
     }
 
     //Read
+    //커서 기반 페이지 조회 (cursor가 null이면 첫 페이지), 답글이 없으면 빈 목록
     @Transactional(readOnly = true)
-    public ReplyListResponseDto<Object> getReplyList(Long commentId) {
-        commentService.findComment(commentId);
-
-        // commentId != null 이라는 검증이 들어가 있었는데 위에 findComment에서 commentId와 관련하여 검증이 끝나서 삭제했습니다.
-        List<Reply> replyList = replyRepository.findAllByComment_CommentIdOrderByReplyIdDesc(commentId);
+    public ReplyCursorResponseDto<Object> getReplySlice(Long commentId, String cursor, int size) {
+        commentService.verifiedCommentExist(commentId);
+        int pageSize = Math.min(size, maxPageSize);
+        //다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
 
-        if (replyList.isEmpty()) { // 빈 배열로 처리할 수 있으면 삭제해서 통일하는게 좋아보입니다..!
-            throw new ResponseStatusException(HttpStatus.NO_CONTENT, "대댓글이 아직 없습니다.");
+        List<ReplyResDto> replyList;
+        if (cursor == null) {
+            replyList = replyRepository.findReplyResponseFirstPage(commentId, pageRequest);
+        } else {
+            replyList = replyRepository.findReplyResponseNextPage(commentId, parseCursorReplyId(cursor), pageRequest);
         }
 
-        List<ReplyResDto> result = ReplyResDto.toReplyResponseDtoList(replyList);
-        return new ReplyListResponseDto<>(commentId, result);
+        boolean hasNext = replyList.size() > pageSize;
+        List<ReplyResDto> response = hasNext ? replyList.subList(0, pageSize) : replyList;
+        String nextCursor = hasNext ? CursorUtils.encode(response.get(pageSize - 1).getReplyId()) : null;
+
+        return new ReplyCursorResponseDto<>(commentId, response, new CursorPageInfo(pageSize, hasNext, nextCursor));
+    }
+
+    private Long parseCursorReplyId(String cursor) {
+        String[] keys = CursorUtils.decode(cursor, 1);
+        try {
+            return Long.valueOf(keys[0]);
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
     }
 
     //Update
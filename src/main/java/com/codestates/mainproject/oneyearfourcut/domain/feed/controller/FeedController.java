@@ -0,0 +1,30 @@
+package com.codestates.mainproject.oneyearfourcut.domain.feed.controller;
+
+import com.codestates.mainproject.oneyearfourcut.domain.feed.service.FeedService;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.LoginMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.constraints.Positive;
+
+@RestController
+@RequestMapping("/members/me/feed")
+@RequiredArgsConstructor
+@Validated
+public class FeedController {
+    private final FeedService feedService;
+
+    //팔로우 한 전시관의 새 작품 피드
+    @GetMapping
+    public ResponseEntity<Object> getFeed(@LoginMember Long memberId,
+                                          @RequestParam(required = false) String cursor,
+                                          @Positive @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(feedService.getFeed(memberId, cursor, size), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,23 @@
+package com.codestates.mainproject.oneyearfourcut.domain.feed.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//피드 작품 (어느 전시관의 작품인지 함께 응답)
+@Getter
+@AllArgsConstructor
+public class FeedArtworkResponseDto {
+    private Long artworkId;
+    private Long galleryId;
+    private String galleryTitle;
+    private Long memberId;
+    private String nickName;
+    private String title;
+    private String imagePath;
+    private String thumbnailPath;
+    private int likeCount;
+    private int commentCount;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.codestates.mainproject.oneyearfourcut.domain.feed.event;
+
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEventType;
+import com.codestates.mainproject.oneyearfourcut.domain.feed.repository.FeedTimelineRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.event.FollowEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class FeedEventListener {
+    private final FeedTimelineRepository feedTimelineRepository;
+
+    //커밋된 작품만 팔로워 피드에 추가하고, 삭제가 커밋된 작품은 피드에서 뺌
+    @TransactionalEventListener
+    public void handleArtworkEvent(ArtworkEvent event) {
+        if (event.getGalleryMemberId() == null) {
+            return;
+        }
+        if (event.getType() == ArtworkEventType.CREATE) {
+            feedTimelineRepository.addArtwork(event.getGalleryMemberId(), event.getArtworkId());
+        } else if (event.getType() == ArtworkEventType.DELETE) {
+            feedTimelineRepository.removeArtwork(event.getGalleryMemberId(), event.getArtworkId());
+        }
+    }
+
+    //팔로우가 바뀐 회원의 타임라인은 다음 조회 때 다시 적재, 언팔로우로 팔로워가 줄면 주인별 목록 정리
+    @TransactionalEventListener
+    public void handleFollowEvent(FollowEvent event) {
+        feedTimelineRepository.evict(event.getMemberId());
+        if (!event.isFollow()) {
+            feedTimelineRepository.dropOutboxIfSmall(event.getFollowMemberId());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.codestates.mainproject.oneyearfourcut.domain.feed.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.feed.dto.FeedArtworkResponseDto;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FeedRepository extends Repository<Artwork, Long> {
+    //타임라인 적재용 : memberId 회원이 팔로우 한 회원의 오픈된 전시관 작품 id (최신순)
+    @Query("SELECT a.artworkId FROM Artwork a JOIN a.gallery g, Follow f" +
+            " WHERE f.member.memberId = :memberId AND g.member.memberId = f.followMemberId" +
+            " AND g.status = :galleryStatus" +
+            " ORDER BY a.artworkId DESC")
+    List<Long> findTimelineArtworkIds(@Param("memberId") Long memberId,
+                                      @Param("galleryStatus") GalleryStatus galleryStatus,
+                                      Pageable pageable);
+
+    //피드 응답 (그 사이 삭제된 작품, 폐관된 전시관의 작품은 제외)
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.feed.dto.FeedArtworkResponseDto(" +
+            "a.artworkId, g.galleryId, g.title, m.memberId, m.nickname, a.title, a.imagePath," +
+            " COALESCE(a.thumbnailPath, a.imagePath), a.likeCount, a.commentCount, a.createdAt)" +
+            " FROM Artwork a JOIN a.member m JOIN a.gallery g" +
+            " WHERE a.artworkId IN :artworkIds AND g.status = :galleryStatus" +
+            " ORDER BY a.artworkId DESC")
+    List<FeedArtworkResponseDto> findFeedArtworkList(@Param("artworkIds") Collection<Long> artworkIds,
+                                                     @Param("galleryStatus") GalleryStatus galleryStatus);
+}
@@ -0,0 +1,257 @@
+package com.codestates.mainproject.oneyearfourcut.domain.feed.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowGraphRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 피드 타임라인 (팔로우 한 회원의 전시관에 등록된 작품 id, 최신순)
+ * - 작품이 등록되면 전시관 주인의 팔로워 타임라인에 바로 넣는다. (fan-out-on-write, 적재된 타임라인에만)
+ * - 팔로워가 feed.fan-out.max-followers보다 많은 주인은 주인별 최근 작품 목록에만 넣고, 조회할 때 합친다. (fan-out-on-read)
+ *   주인의 팔로워가 다시 기준 이하로 줄면 주인별 목록을 팔로워 타임라인에 합치고 지운다.
+ * - 타임라인과 주인별 목록은 feed.timeline.max-size개까지만 유지하고, copy-on-write 배열이라 읽기는 락 없이 처리된다.
+ * - 타임라인은 feed.timeline.max-members명까지만 들고, feed.timeline.idle-millis 동안 조회되지 않으면 버린다.
+ *   (작품 추가로는 조회 시각이 바뀌지 않음, 버려진 회원은 다음 조회 때 다시 적재)
+ * - 작품이 삭제되면 팔로워 타임라인과 주인별 목록에서 바로 뺀다.
+ * - 처음 조회하는 회원의 타임라인은 DB에서 적재하고, 팔로우가 바뀌면 지운 뒤 다음 조회 때 다시 적재한다.
+ *   적재 중에 추가된 작품은 회원별 적재 표시에 모아 두었다가 적재 결과에 합친다. (다른 회원의 변경은 적재에 영향 없음)
+ */
+@Component
+public class FeedTimelineRepository {
+    private static final long[] EMPTY = new long[0];
+
+    private final FeedRepository feedRepository;
+    private final FollowGraphRepository followGraphRepository;
+    private final int maxTimelineSize;
+    private final int maxFanOutFollowers;
+
+    private final Map<Long, long[]> timelines;                                //회원 -> 피드 작품 id
+    private final Map<Long, long[]> outboxes = new ConcurrentHashMap<>();     //팔로워가 많은 주인 -> 최근 작품 id
+    private final Map<Long, PendingLoad> pendingLoads = new ConcurrentHashMap<>(); //적재 중인 회원 -> 적재 중 추가된 작품 id
+
+    //주인별 목록이 있는 회원 id (주인이 생기거나 빠질 때만 바뀌므로 copy-on-write, 주인별 목록과 함께 synchronized로 변경)
+    private volatile RoaringBitmap outboxOwners = new RoaringBitmap();
+
+    public FeedTimelineRepository(FeedRepository feedRepository,
+                                  FollowGraphRepository followGraphRepository,
+                                  @Value("${feed.timeline.max-size:300}") int maxTimelineSize,
+                                  @Value("${feed.fan-out.max-followers:1000}") int maxFanOutFollowers,
+                                  @Value("${feed.timeline.max-members:10000}") long maxTimelineMembers,
+                                  @Value("${feed.timeline.idle-millis:1800000}") long timelineIdleMillis) {
+        this.feedRepository = feedRepository;
+        this.followGraphRepository = followGraphRepository;
+        this.maxTimelineSize = maxTimelineSize;
+        this.maxFanOutFollowers = maxFanOutFollowers;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxTimelineMembers)
+                .expireAfter(new ReadExpiry(TimeUnit.MILLISECONDS.toNanos(timelineIdleMillis)))
+                .<Long, long[]>build()
+                .asMap();
+    }
+
+    //galleryMemberId 회원의 전시관에 등록된 작품을 팔로워 피드에 추가
+    public void addArtwork(long galleryMemberId, long artworkId) {
+        if (followGraphRepository.getFollowerCount(galleryMemberId) > maxFanOutFollowers) {
+            addToOutbox(galleryMemberId, artworkId);
+            return;
+        }
+        dropOutboxIfSmall(galleryMemberId);
+        //적재 표시를 먼저 확인 (적재가 끝나면 타임라인이 생긴 뒤에 표시가 지워지므로 둘 중 하나에는 반영됨)
+        followGraphRepository.forEachFollower(galleryMemberId, followerId -> {
+            pendingLoads.computeIfPresent(followerId, (id, pending) -> pending.add(artworkId));
+            timelines.computeIfPresent(followerId, (id, artworkIds) -> added(artworkIds, artworkId));
+        });
+    }
+
+    //galleryMemberId 회원의 전시관에서 삭제된 작품을 피드에서 뺌
+    public void removeArtwork(long galleryMemberId, long artworkId) {
+        //주인별 목록을 먼저 고침 (그 전에 합쳐진 목록은 아래에서 팔로워 타임라인과 함께 빠짐)
+        synchronized (this) {
+            outboxes.computeIfPresent(galleryMemberId, (id, artworkIds) -> removed(artworkIds, artworkId));
+        }
+        followGraphRepository.forEachFollower(galleryMemberId, followerId -> {
+            pendingLoads.computeIfPresent(followerId, (id, pending) -> pending.remove(artworkId));
+            timelines.computeIfPresent(followerId, (id, artworkIds) -> removed(artworkIds, artworkId));
+        });
+    }
+
+    //팔로워가 기준 이하로 줄었으면 주인별 목록을 팔로워 타임라인에 합치고 지움 (이후 작품은 바로 팔로워 타임라인에 들어감)
+    public synchronized void dropOutboxIfSmall(long galleryMemberId) {
+        long[] outbox = outboxes.get(galleryMemberId);
+        if (outbox == null || followGraphRepository.getFollowerCount(galleryMemberId) > maxFanOutFollowers) {
+            return;
+        }
+        //합친 뒤에 지워야 조회 중인 회원이 두 곳 모두에서 못 보는 순간이 없음 (적재 중인 회원은 DB에서 읽음)
+        followGraphRepository.forEachFollower(galleryMemberId, followerId ->
+                timelines.computeIfPresent(followerId, (id, artworkIds) -> {
+                    long[] merged = artworkIds;
+                    for (long artworkId : outbox) {
+                        merged = added(merged, artworkId);
+                    }
+                    return merged;
+                }));
+        outboxes.remove(galleryMemberId);
+        RoaringBitmap copied = outboxOwners.clone();
+        copied.remove(Math.toIntExact(galleryMemberId));
+        outboxOwners = copied;
+    }
+
+    public void evict(long memberId) {
+        pendingLoads.remove(memberId);
+        timelines.remove(memberId);
+    }
+
+    //beforeArtworkId보다 작은(오래된) 작품 id를 최신순으로 limit개까지 (beforeArtworkId가 null이면 처음부터)
+    //읽는 양은 타임라인 하나와 팔로우 중인 주인 목록 수에만 비례하고, 팔로우 수나 작품 수와는 상관없다.
+    public List<Long> findArtworkIds(long memberId, Long beforeArtworkId, int limit) {
+        List<long[]> sources = new ArrayList<>();
+        sources.add(findTimeline(memberId));
+        followGraphRepository.forEachFollowingIn(memberId, outboxOwners, galleryMemberId -> {
+            long[] artworkIds = outboxes.get(galleryMemberId);
+            if (artworkIds != null) {
+                sources.add(artworkIds);
+            }
+        });
+
+        long before = beforeArtworkId == null ? Long.MAX_VALUE : beforeArtworkId;
+        return sources.stream()
+                .flatMapToLong(Arrays::stream)
+                .filter(artworkId -> artworkId < before)
+                .boxed()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private long[] findTimeline(long memberId) {
+        long[] timeline = timelines.get(memberId);
+        return timeline == null ? load(memberId) : timeline;
+    }
+
+    //적재 표시를 남기고 조회한 뒤, 표시가 그대로면 (그 회원의 팔로우 변경이 없었으면) 조회 중 추가된 작품과 합쳐 캐시
+    private long[] load(long memberId) {
+        PendingLoad pending = new PendingLoad();
+        boolean cacheable = pendingLoads.putIfAbsent(memberId, pending) == null;   //이미 적재 중이면 조회만 함
+        long[] loaded = feedRepository.findTimelineArtworkIds(memberId, GalleryStatus.OPEN, PageRequest.of(0, maxTimelineSize))
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        if (!cacheable) {
+            return loaded;
+        }
+
+        long[][] result = {loaded};
+        pendingLoads.computeIfPresent(memberId, (id, present) -> {
+            if (present != pending) {
+                return present;
+            }
+            for (long artworkId : present.artworkIds) {
+                result[0] = added(result[0], artworkId);
+            }
+            for (long artworkId : present.removedArtworkIds) {
+                result[0] = removed(result[0], artworkId);
+            }
+            timelines.putIfAbsent(memberId, result[0]);
+            return null;
+        });
+        return result[0];
+    }
+
+    private synchronized void addToOutbox(long galleryMemberId, long artworkId) {
+        outboxes.compute(galleryMemberId, (id, artworkIds) -> added(artworkIds, artworkId));
+        int index = Math.toIntExact(galleryMemberId);
+        if (outboxOwners.contains(index)) {
+            return;
+        }
+        RoaringBitmap copied = outboxOwners.clone();
+        copied.add(index);
+        outboxOwners = copied;
+    }
+
+    //최신순을 유지하며 추가하고 최대 개수를 넘으면 가장 오래된 작품을 버림
+    private long[] added(long[] artworkIds, long artworkId) {
+        long[] source = artworkIds == null ? EMPTY : artworkIds;
+        int position = 0;
+        while (position < source.length && source[position] > artworkId) {
+            position++;
+        }
+        if (position < source.length && source[position] == artworkId) {
+            return source;
+        }
+        int size = Math.min(source.length + 1, maxTimelineSize);
+        if (position >= size) {
+            return source;
+        }
+        long[] copied = new long[size];
+        System.arraycopy(source, 0, copied, 0, position);
+        copied[position] = artworkId;
+        System.arraycopy(source, position, copied, position + 1, size - position - 1);
+        return copied;
+    }
+
+    private long[] removed(long[] artworkIds, long artworkId) {
+        int position = 0;
+        while (position < artworkIds.length && artworkIds[position] > artworkId) {
+            position++;
+        }
+        if (position == artworkIds.length || artworkIds[position] != artworkId) {
+            return artworkIds;
+        }
+        long[] copied = new long[artworkIds.length - 1];
+        System.arraycopy(artworkIds, 0, copied, 0, position);
+        System.arraycopy(artworkIds, position + 1, copied, position, copied.length - position);
+        return copied;
+    }
+
+    //적재 중에 추가, 삭제된 작품 id (pendingLoads의 compute 안에서만 변경)
+    private class PendingLoad {
+        private long[] artworkIds = EMPTY;
+        private long[] removedArtworkIds = EMPTY;
+
+        private PendingLoad add(long artworkId) {
+            artworkIds = added(artworkIds, artworkId);
+            return this;
+        }
+
+        private PendingLoad remove(long artworkId) {
+            artworkIds = removed(artworkIds, artworkId);
+            removedArtworkIds = added(removedArtworkIds, artworkId);
+            return this;
+        }
+    }
+
+    //마지막 조회부터 idleNanos가 지나면 만료 (작품 추가, 삭제로는 만료 시각이 바뀌지 않음)
+    private static class ReadExpiry implements Expiry<Long, long[]> {
+        private final long idleNanos;
+
+        private ReadExpiry(long idleNanos) {
+            this.idleNanos = idleNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Long memberId, long[] artworkIds, long currentTime) {
+            return idleNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long memberId, long[] artworkIds, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long memberId, long[] artworkIds, long currentTime, long currentDuration) {
+            return idleNanos;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.codestates.mainproject.oneyearfourcut.domain.feed.service;
+
+import com.codestates.mainproject.oneyearfourcut.domain.feed.dto.FeedArtworkResponseDto;
+import com.codestates.mainproject.oneyearfourcut.domain.feed.repository.FeedRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.feed.repository.FeedTimelineRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import com.codestates.mainproject.oneyearfourcut.global.page.CursorPageInfo;
+import com.codestates.mainproject.oneyearfourcut.global.page.FeedCursorResponseDto;
+import com.codestates.mainproject.oneyearfourcut.global.util.CursorUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class FeedService {
+    private final FeedRepository feedRepository;
+    private final FeedTimelineRepository feedTimelineRepository;
+    private final int maxPageSize;
+
+    public FeedService(FeedRepository feedRepository,
+                       FeedTimelineRepository feedTimelineRepository,
+                       @Value("${feed.page.max-size:50}") int maxPageSize) {
+        this.feedRepository = feedRepository;
+        this.feedTimelineRepository = feedTimelineRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    //팔로우 한 회원의 전시관에 새로 등록된 작품 (artworkId 내림차순 커서 페이지)
+    //작품 id는 메모리 타임라인에서 고르고, 응답은 그 id로 한 번만 조회
+    public FeedCursorResponseDto<List<FeedArtworkResponseDto>> getFeed(long memberId, String cursor, int size) {
+        int pageSize = Math.min(size, maxPageSize);
+        Long beforeArtworkId = cursor == null ? null : parseCursorArtworkId(cursor);
+        //다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<Long> artworkIds = feedTimelineRepository.findArtworkIds(memberId, beforeArtworkId, pageSize + 1);
+
+        boolean hasNext = artworkIds.size() > pageSize;
+        List<Long> pageArtworkIds = hasNext ? artworkIds.subList(0, pageSize) : artworkIds;
+        String nextCursor = hasNext ? CursorUtils.encode(pageArtworkIds.get(pageSize - 1)) : null;
+
+        List<FeedArtworkResponseDto> artworkList = pageArtworkIds.isEmpty()
+                ? new ArrayList<>()
+                : feedRepository.findFeedArtworkList(pageArtworkIds, GalleryStatus.OPEN);
+        return new FeedCursorResponseDto<>(artworkList, new CursorPageInfo(pageSize, hasNext, nextCursor));
+    }
+
+    private Long parseCursorArtworkId(String cursor) {
+        String[] keys = CursorUtils.decode(cursor, 1);
+        try {
+            return Long.valueOf(keys[0]);
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+}
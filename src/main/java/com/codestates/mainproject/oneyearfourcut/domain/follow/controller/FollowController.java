@@ -10,6 +10,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Positive;
 
 @RestController
 @RequestMapping("/galleries")
@@ -22,19 +23,23 @@ public class FollowController {
     public ResponseEntity<Object> followByMember(@LoginMember Long loginMemberId,
                                                  @Valid @PathVariable("gallery-id") Long targetGalleryId) {
         return new ResponseEntity<>(
-                followService.createFollow(loginMemberId, targetGalleryId).toFollowingResponseDto(), HttpStatus.CREATED);
+                followService.createFollow(loginMemberId, targetGalleryId), HttpStatus.CREATED);
     }
 
     @GetMapping("/{gallery-id}/followings")
-    public ResponseEntity<Object> getFollowingList(@Valid @PathVariable("gallery-id") Long galleryId) {
+    public ResponseEntity<Object> getFollowingList(@Valid @PathVariable("gallery-id") Long galleryId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @Positive @RequestParam(defaultValue = "20") int size) {
         return new ResponseEntity<>(
-                followService.getFollowingListByGalleryId(galleryId), HttpStatus.OK);
+                followService.getFollowingListByGalleryId(galleryId, cursor, size), HttpStatus.OK);
     }
 
     @GetMapping("/{gallery-id}/followers")
-    public ResponseEntity<Object> getFollowerList(@Valid @PathVariable("gallery-id") Long galleryId) {
+    public ResponseEntity<Object> getFollowerList(@Valid @PathVariable("gallery-id") Long galleryId,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @Positive @RequestParam(defaultValue = "20") int size) {
         return new ResponseEntity<>(
-                followService.getFollowerListByGalleryId(galleryId), HttpStatus.OK);
+                followService.getFollowerListByGalleryId(galleryId, cursor, size), HttpStatus.OK);
     }
 
     @DeleteMapping("/{gallery-id}/follows")
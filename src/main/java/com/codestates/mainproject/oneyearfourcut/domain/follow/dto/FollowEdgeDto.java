@@ -0,0 +1,12 @@
+package com.codestates.mainproject.oneyearfourcut.domain.follow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//팔로우 그래프 적재용 (팔로우 하는 회원, 팔로우 당하는 회원)
+@Getter
+@AllArgsConstructor
+public class FollowEdgeDto {
+    private Long memberId;
+    private Long followMemberId;
+}
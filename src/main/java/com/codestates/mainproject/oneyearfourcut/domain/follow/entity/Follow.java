@@ -3,7 +3,6 @@ package com.codestates.mainproject.oneyearfourcut.domain.follow.entity;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEvent;
 import com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowingResponseDto;
-import com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowerResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
@@ -17,6 +16,10 @@ import javax.persistence.*;
 
 @Getter
 @Entity
+@Table(name = "follow", indexes = {   //팔로워 리스트, 팔로잉 리스트 조회 (followId 내림차순)
+        @Index(name = "idx_follow_follow_member_follow", columnList = "follow_member_id, follow_id"),
+        @Index(name = "idx_follow_member_follow", columnList = "member_id, follow_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follow extends Auditable {
 
@@ -63,18 +66,7 @@ public class Follow extends Auditable {
                 .galleryId(this.getGallery().getGalleryId())
                 .galleryTitle(this.getGallery().getTitle())
                 .galleryMemberNickname(this.getGallery().getMember().getNickname())
-                .profile(this.getGallery().getMember().getProfile())
-                .isFollowTogetherCheck(this.getIsFollowTogetherCheck())
-                .build();
-    }
-    public FollowerResponseDto toFollowerResponseDto(){
-        Gallery openFollowerGallery = this.getMember().getOpenGallery().orElse(new Gallery(null));
-        return FollowerResponseDto.builder()
-                .followId(this.getFollowId())
-                .galleryId(openFollowerGallery.getGalleryId())
-                .galleryTitle(openFollowerGallery.getTitle())
-                .galleryMemberNickname(this.getMember().getNickname())
-                .profile(this.getMember().getProfile())
+                .profile(this.getGallery().getMember().getListProfile())
                 .isFollowTogetherCheck(this.getIsFollowTogetherCheck())
                 .build();
     }
@@ -0,0 +1,19 @@
+package com.codestates.mainproject.oneyearfourcut.domain.follow.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+//팔로우 그래프에 먼저 반영한 팔로우 변경 (follow가 false면 언팔로우)
+@Getter
+public class FollowEvent {
+    private final Long memberId;
+    private final Long followMemberId;
+    private final boolean follow;
+
+    @Builder
+    public FollowEvent(Long memberId, Long followMemberId, boolean follow) {
+        this.memberId = memberId;
+        this.followMemberId = followMemberId;
+        this.follow = follow;
+    }
+}
@@ -0,0 +1,23 @@
+package com.codestates.mainproject.oneyearfourcut.domain.follow.event;
+
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowGraphRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class FollowEventListener {
+    private final FollowGraphRepository followGraphRepository;
+
+    //팔로우 변경은 트랜잭션 안에서 그래프에 먼저 반영되므로, 롤백되면 되돌림
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleFollowRollback(FollowEvent event) {
+        if (event.isFollow()) {
+            followGraphRepository.removeFollow(event.getMemberId(), event.getFollowMemberId());
+        } else {
+            followGraphRepository.addFollow(event.getMemberId(), event.getFollowMemberId());
+        }
+    }
+}
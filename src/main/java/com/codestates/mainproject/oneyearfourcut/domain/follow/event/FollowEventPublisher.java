@@ -0,0 +1,15 @@
+package com.codestates.mainproject.oneyearfourcut.domain.follow.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FollowEventPublisher {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publishFollowEvent(FollowEvent followEvent) {
+        applicationEventPublisher.publishEvent(followEvent);
+    }
+}
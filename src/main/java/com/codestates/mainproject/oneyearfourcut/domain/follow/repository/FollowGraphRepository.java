@@ -0,0 +1,201 @@
+package com.codestates.mainproject.oneyearfourcut.domain.follow.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowEdgeDto;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * 회원 간 팔로우 관계를 회원 id 비트맵으로 들고 있는 메모리 그래프 (원본은 follow 테이블)
+ * - 서버 시작 시 follow 테이블 전체를 적재하고, 이후에는 FollowService의 팔로우 변경으로만 갱신한다.
+ * - 팔로우 여부, 맞팔 여부, 팔로잉/팔로워 수는 DB 조회 없이 확인한다.
+ * - 비트맵은 복사하지 않고 그 자리에서 고치며, 회원 id로 나눈 락으로 보호한다.
+ *   인기 회원에게 팔로우가 몰려도 변경 비용은 팔로워 수와 상관없고, 다른 회원의 팔로우 변경은 막지 않는다.
+ * - 비트맵 인덱스(int) 범위를 넘는 회원 id는 적재에서 제외하고, 팔로우 추가는 거부한다.
+ */
+@Slf4j
+@Component
+public class FollowGraphRepository implements SmartInitializingSingleton {
+    private static final int LOCK_STRIPES = 64;
+
+    private final FollowRepository followRepository;
+
+    private final Map<Long, RoaringBitmap> followings = new ConcurrentHashMap<>();   //회원 -> 팔로우 하는 회원
+    private final Map<Long, RoaringBitmap> followers = new ConcurrentHashMap<>();    //회원 -> 팔로우 당하는 회원
+    private final ReadWriteLock[] locks = new ReadWriteLock[LOCK_STRIPES];         //비트맵 주인 회원 id 기준
+
+    public FollowGraphRepository(FollowRepository followRepository) {
+        this.followRepository = followRepository;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    //follow 테이블 기준으로 다시 적재
+    public synchronized void load() {
+        List<FollowEdgeDto> edgeList = followRepository.findFollowEdgeList();
+        Map<Long, RoaringBitmap> loadedFollowings = new HashMap<>();
+        Map<Long, RoaringBitmap> loadedFollowers = new HashMap<>();
+        int skipped = 0;
+        for (FollowEdgeDto edge : edgeList) {
+            if (!isIndexable(edge.getMemberId()) || !isIndexable(edge.getFollowMemberId())) {
+                skipped++;
+                continue;
+            }
+            loadedFollowings.computeIfAbsent(edge.getMemberId(), id -> new RoaringBitmap())
+                    .add(toIndex(edge.getFollowMemberId()));
+            loadedFollowers.computeIfAbsent(edge.getFollowMemberId(), id -> new RoaringBitmap())
+                    .add(toIndex(edge.getMemberId()));
+        }
+        loadedFollowings.values().forEach(RoaringBitmap::runOptimize);
+        loadedFollowers.values().forEach(RoaringBitmap::runOptimize);
+
+        followings.clear();
+        followings.putAll(loadedFollowings);
+        followers.clear();
+        followers.putAll(loadedFollowers);
+        if (skipped > 0) {
+            log.warn("팔로우 그래프 적재 : 회원 id가 인덱스 범위를 넘는 팔로우 {}건 제외", skipped);
+        }
+        log.info("팔로우 그래프 적재 : 팔로우 {}건", edgeList.size() - skipped);
+    }
+
+    //memberId 회원이 followMemberId 회원을 팔로우 하는지
+    public boolean isFollowing(long memberId, long followMemberId) {
+        if (!isIndexable(followMemberId)) {
+            return false;
+        }
+        int index = toIndex(followMemberId);
+        return read(followings, memberId, bitmap -> bitmap.contains(index), false);
+    }
+
+    public boolean isMutual(long memberId, long otherMemberId) {
+        return isFollowing(memberId, otherMemberId) && isFollowing(otherMemberId, memberId);
+    }
+
+    public int getFollowingCount(long memberId) {
+        return read(followings, memberId, RoaringBitmap::getCardinality, 0);
+    }
+
+    public int getFollowerCount(long memberId) {
+        return read(followers, memberId, RoaringBitmap::getCardinality, 0);
+    }
+
+    //memberId 회원의 팔로워마다 실행 (호출 시점의 팔로워 기준, 실행 중에는 락을 잡지 않음)
+    public void forEachFollower(long memberId, LongConsumer action) {
+        RoaringBitmap snapshot = read(followers, memberId, RoaringBitmap::clone, null);
+        if (snapshot != null) {
+            snapshot.forEach((IntConsumer) action::accept);
+        }
+    }
+
+    //memberId 회원이 팔로우 하는 회원 중 memberIds에 있는 회원마다 실행 (비트맵 교집합으로 찾음)
+    public void forEachFollowingIn(long memberId, RoaringBitmap memberIds, LongConsumer action) {
+        RoaringBitmap intersection = read(followings, memberId, bitmap -> RoaringBitmap.and(bitmap, memberIds), null);
+        if (intersection != null) {
+            intersection.forEach((IntConsumer) action::accept);
+        }
+    }
+
+    //추가되면 true (이미 팔로우 중이면 false)
+    public boolean addFollow(long memberId, long followMemberId) {
+        int memberIndex = toIndex(memberId);
+        int followMemberIndex = toIndex(followMemberId);
+        return write(memberId, followMemberId, () -> {
+            if (!followings.computeIfAbsent(memberId, id -> new RoaringBitmap()).checkedAdd(followMemberIndex)) {
+                return false;
+            }
+            followers.computeIfAbsent(followMemberId, id -> new RoaringBitmap()).add(memberIndex);
+            return true;
+        });
+    }
+
+    //삭제되면 true (팔로우 중이 아니면 false)
+    public boolean removeFollow(long memberId, long followMemberId) {
+        if (!isIndexable(memberId) || !isIndexable(followMemberId)) {
+            return false;
+        }
+        int memberIndex = toIndex(memberId);
+        int followMemberIndex = toIndex(followMemberId);
+        return write(memberId, followMemberId, () -> {
+            if (!removed(followings, memberId, followMemberIndex)) {
+                return false;
+            }
+            removed(followers, followMemberId, memberIndex);
+            return true;
+        });
+    }
+
+    //비어 있으면 항목을 지움
+    private boolean removed(Map<Long, RoaringBitmap> graph, long ownerId, int index) {
+        RoaringBitmap bitmap = graph.get(ownerId);
+        if (bitmap == null || !bitmap.checkedRemove(index)) {
+            return false;
+        }
+        if (bitmap.isEmpty()) {
+            graph.remove(ownerId);
+        }
+        return true;
+    }
+
+    private <T> T read(Map<Long, RoaringBitmap> graph, long ownerId, Function<RoaringBitmap, T> reader, T defaultValue) {
+        ReadWriteLock lock = lockOf(ownerId);
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = graph.get(ownerId);
+            return bitmap == null ? defaultValue : reader.apply(bitmap);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //두 회원의 락을 항상 stripe 순서대로 잡아서 서로 반대 방향 팔로우가 동시에 와도 교착되지 않음
+    private boolean write(long memberId, long followMemberId, BooleanSupplier change) {
+        int memberStripe = stripeOf(memberId);
+        int followMemberStripe = stripeOf(followMemberId);
+        ReadWriteLock first = locks[Math.min(memberStripe, followMemberStripe)];
+        ReadWriteLock second = locks[Math.max(memberStripe, followMemberStripe)];
+        first.writeLock().lock();
+        second.writeLock().lock();
+        try {
+            return change.getAsBoolean();
+        } finally {
+            second.writeLock().unlock();
+            first.writeLock().unlock();
+        }
+    }
+
+    private ReadWriteLock lockOf(long memberId) {
+        return locks[stripeOf(memberId)];
+    }
+
+    private int stripeOf(long memberId) {
+        return Math.floorMod(Long.hashCode(memberId), LOCK_STRIPES);
+    }
+
+    private boolean isIndexable(long memberId) {
+        return memberId >= 0 && memberId <= Integer.MAX_VALUE;
+    }
+
+    //범위를 넘으면 ArithmeticException (팔로우 추가 거부)
+    private int toIndex(long memberId) {
+        return Math.toIntExact(memberId);
+    }
+}
@@ -1,12 +1,19 @@
 package com.codestates.mainproject.oneyearfourcut.domain.follow.repository;
 
+import com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowEdgeDto;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowerResponseDto;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowingResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.follow.entity.Follow;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,15 +22,58 @@ public interface FollowRepository extends JpaRepository<Follow, Long> , PagingAn
 
     Boolean existsByMember_MemberIdAndFollowMemberId(Long loginMemberId, Long targetMemberId);
     Optional<Follow> findByMemberAndGallery(Member member, Gallery gallery);
-    List<Follow> findAllByMember_MemberIdAndGallery_StatusOrderByFollowIdDesc(Long memberId, GalleryStatus galleryStatus);//팔로잉하는 갤러리 리스트 조회 (Gallery OPEN)
-
-    @Query(value = "SELECT f FROM Follow f " +
-            " INNER JOIN Member m"+
-            " ON f.followMemberId = m.memberId"+
-            " WHERE f.followMemberId =:memberId" +
-            " AND m.status LIKE 'A%'" +
-            " ORDER BY f.followId DESC")
-    List<Follow> findAllFollowerListByMemberId(Long memberId); //해당 갤러리 팔로워 리스트 조회 (유저 ACTIVE)
-    Optional<Follow> findByFollowMemberIdAndMember(Long memberId, Member myMember);
+
+    //팔로잉 리스트 : 팔로우 한 전시관과 전시관 주인을 한 번에 조회 (Gallery OPEN)
+    String FOLLOWING_RESPONSE_SELECT = "SELECT new com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowingResponseDto(" +
+            "f.followId, g.galleryId, g.title, m.nickname, COALESCE(m.profileThumbnail, m.profile), f.isFollowTogetherCheck)" +
+            " FROM Follow f JOIN f.gallery g JOIN g.member m" +
+            " WHERE f.member.memberId = :memberId AND g.status = :galleryStatus";
+
+    //팔로워 리스트 : 팔로워와 팔로워의 오픈된 전시관(없으면 null)을 한 번에 조회 (팔로워 ACTIVE)
+    String FOLLOWER_RESPONSE_SELECT = "SELECT new com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowerResponseDto(" +
+            "f.followId, g.galleryId, g.title, m.nickname, COALESCE(m.profileThumbnail, m.profile), f.isFollowTogetherCheck)" +
+            " FROM Follow f JOIN f.member m" +
+            " LEFT JOIN Gallery g ON g.member.memberId = m.memberId AND g.status = :galleryStatus" +
+            " WHERE f.followMemberId = :memberId AND m.status = :memberStatus";
+
+    //커서 페이지네이션 (followId 내림차순), count 쿼리가 없도록 List로 반환
+    @Query(FOLLOWING_RESPONSE_SELECT + " ORDER BY f.followId DESC")
+    List<FollowingResponseDto> findFollowingFirstPage(@Param("memberId") Long memberId,
+                                                      @Param("galleryStatus") GalleryStatus galleryStatus,
+                                                      Pageable pageable);
+
+    @Query(FOLLOWING_RESPONSE_SELECT + " AND f.followId < :followId ORDER BY f.followId DESC")
+    List<FollowingResponseDto> findFollowingNextPage(@Param("memberId") Long memberId,
+                                                     @Param("galleryStatus") GalleryStatus galleryStatus,
+                                                     @Param("followId") Long followId,
+                                                     Pageable pageable);
+
+    @Query(FOLLOWER_RESPONSE_SELECT + " ORDER BY f.followId DESC")
+    List<FollowerResponseDto> findFollowerFirstPage(@Param("memberId") Long memberId,
+                                                    @Param("galleryStatus") GalleryStatus galleryStatus,
+                                                    @Param("memberStatus") MemberStatus memberStatus,
+                                                    Pageable pageable);
+
+    @Query(FOLLOWER_RESPONSE_SELECT + " AND f.followId < :followId ORDER BY f.followId DESC")
+    List<FollowerResponseDto> findFollowerNextPage(@Param("memberId") Long memberId,
+                                                   @Param("galleryStatus") GalleryStatus galleryStatus,
+                                                   @Param("memberStatus") MemberStatus memberStatus,
+                                                   @Param("followId") Long followId,
+                                                   Pageable pageable);
+
+    Optional<Follow> findByMember_MemberIdAndGallery_GalleryId(Long memberId, Long galleryId);
+
+    //팔로우 그래프 적재용
+    @Query("SELECT new com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowEdgeDto(f.member.memberId, f.followMemberId) " +
+            "FROM Follow f")
+    List<FollowEdgeDto> findFollowEdgeList();
+
+    //memberId 회원이 followMemberId 회원을 팔로우 한 follow의 맞팔 여부 변경 (엔티티를 읽지 않음)
+    @Modifying
+    @Query("UPDATE Follow f SET f.isFollowTogetherCheck = :followTogether " +
+            "WHERE f.member.memberId = :memberId AND f.followMemberId = :followMemberId")
+    int updateFollowTogetherCheck(@Param("memberId") Long memberId,
+                                  @Param("followMemberId") Long followMemberId,
+                                  @Param("followTogether") boolean followTogether);
 }
 
@@ -4,144 +4,204 @@ import com.codestates.mainproject.oneyearfourcut.domain.alarm.event.AlarmEventPu
 import com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowerResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.follow.dto.FollowingResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.follow.entity.Follow;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.event.FollowEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.event.FollowEventPublisher;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowGraphRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.event.GalleryEventPublisher;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.service.GalleryService;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
-import com.codestates.mainproject.oneyearfourcut.domain.member.service.MemberService;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
-import lombok.RequiredArgsConstructor;
+import com.codestates.mainproject.oneyearfourcut.global.page.CursorPageInfo;
+import com.codestates.mainproject.oneyearfourcut.global.page.FollowCursorResponseDto;
+import com.codestates.mainproject.oneyearfourcut.global.util.CursorUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class FollowService {
     private final FollowRepository followRepository;
-    private final MemberService memberService;
+    private final FollowGraphRepository followGraphRepository;
+    private final FollowEventPublisher followEventPublisher;
     private final GalleryService galleryService;
     private final AlarmEventPublisher alarmEventPublisher;
+    private final GalleryEventPublisher galleryEventPublisher;
+    private final int maxPageSize;
+
+    public FollowService(FollowRepository followRepository,
+                         FollowGraphRepository followGraphRepository,
+                         FollowEventPublisher followEventPublisher,
+                         GalleryService galleryService,
+                         AlarmEventPublisher alarmEventPublisher,
+                         GalleryEventPublisher galleryEventPublisher,
+                         @Value("${follow.page.max-size:50}") int maxPageSize) {
+        this.followRepository = followRepository;
+        this.followGraphRepository = followGraphRepository;
+        this.followEventPublisher = followEventPublisher;
+        this.galleryService = galleryService;
+        this.alarmEventPublisher = alarmEventPublisher;
+        this.galleryEventPublisher = galleryEventPublisher;
+        this.maxPageSize = maxPageSize;
+    }
 
+    //팔로우 여부와 맞팔 여부는 팔로우 그래프에서 확인 (DB 조회 없음)
+    //응답 dto는 트랜잭션 안에서 변환 (open-in-view가 꺼져 있으면 컨트롤러에서 지연 로딩 불가)
     @Transactional
-    public Follow createFollow(Long loginMemberId, Long targetGalleryId) {
-        Member loginMember = memberService.findMember(loginMemberId);
-        galleryService.verifiedGalleryExist(targetGalleryId);
+    public FollowingResponseDto createFollow(Long loginMemberId, Long targetGalleryId) {
         Gallery targetGallery = galleryService.findGallery(targetGalleryId);
         Long galleryOwnerMemberId = targetGallery.getMember().getMemberId();
 
         if(Objects.equals( loginMemberId, galleryOwnerMemberId )){
             throw new BusinessLogicException(ExceptionCode.CANNOT_FOLLOW_OWN_GALLERY);
         }
-        if(followRepository.existsByMember_MemberIdAndFollowMemberId(loginMemberId, galleryOwnerMemberId )){
+        //그래프에 먼저 반영해서 동시에 들어온 같은 팔로우를 막음 (롤백되면 FollowEventListener가 되돌림)
+        if(!followGraphRepository.addFollow(loginMemberId, galleryOwnerMemberId)){
             throw new BusinessLogicException(ExceptionCode.ALREADY_FOLLOWED);
         }
-
-        Boolean isFollowingMeCheck = followRepository.existsByMember_MemberIdAndFollowMemberId(galleryOwnerMemberId, loginMemberId) ;
-        //반대로 , 갤러리유저가 나를 팔로우 하는가? true or false
-
-        if(isFollowingMeCheck){
-            try {Follow follow = Follow.builder()
-                    .member(loginMember)
-                    .followMemberId(galleryOwnerMemberId)
-                    .gallery(targetGallery)
-                    .isFollowTogetherCheck(true)
-                    .build();
-            alarmEventPublisher.publishAlarmEvent(followRepository.save(follow).toAlarmEvent(galleryOwnerMemberId));
-            //알람생성
-            return follow;
-            }
-            finally{
-                Follow foundOppositeFollow = findVerifiedFollowByMemberAndGallery(
-                        targetGallery.getMember(), galleryService.findLoginGallery(loginMemberId));
-                //내 갤러리를 follow 했던 유저의 follow Id 의 following me check를 true 값으로 변환 (맞팔)
-                foundOppositeFollow.changeFollowTogetherCheck(true);
-            }
-        }
-        else{
-            Follow follow = Follow.builder()
-                    .member(loginMember)
-                    .followMemberId(galleryOwnerMemberId)
-                    .gallery(targetGallery)
-                    .isFollowTogetherCheck(false)
-                    .build();
-            alarmEventPublisher.publishAlarmEvent(followRepository.save(follow).toAlarmEvent(galleryOwnerMemberId));
-            // 알람 생성
-            return follow;
+        publishFollowEvent(loginMemberId, galleryOwnerMemberId, true);
+        galleryService.increaseFollowCount(loginMemberId, targetGalleryId);
+        publishFollowChangedEvent(loginMemberId, targetGalleryId);
+
+        //반대로 , 갤러리유저가 나를 팔로우 하는가? -> 맞팔이면 상대 follow의 맞팔 여부도 true 로 변환
+        boolean isFollowTogether = followGraphRepository.isMutual(loginMemberId, galleryOwnerMemberId);
+        if(isFollowTogether){
+            followRepository.updateFollowTogetherCheck(galleryOwnerMemberId, loginMemberId, true);
         }
-
+        Follow follow = followRepository.save(Follow.builder()
+                .member(new Member(loginMemberId))
+                .followMemberId(galleryOwnerMemberId)
+                .gallery(targetGallery)
+                .isFollowTogetherCheck(isFollowTogether)
+                .build());
+        alarmEventPublisher.publishAlarmEvent(follow.toAlarmEvent(galleryOwnerMemberId));
+        // 알람 생성
+        return follow.toFollowingResponseDto();
     }
 
     @Transactional
     public Boolean unfollow(Long myMemberId, Long otherGalleryId) {
-        Member myMember = memberService.findMember(myMemberId);
-        Gallery otherGallery = galleryService.findGallery(otherGalleryId);
-        Follow foundMyFollowing = findVerifiedFollowByMemberAndGallery(myMember, otherGallery);
-
-        // 반대쪽에서도 팔로잉되어 있는 상태일때 or 맞팔상태일때 : (other) true, true (me) ->  (other) false , deleted (me)
-        if(foundMyFollowing.getIsFollowTogetherCheck()){
-            Follow foundOppositeFollow = findVerifiedFollowByMemberAndGallery(
-                    memberService.findMember( foundMyFollowing.getFollowMemberId() ) ,
-                    galleryService.findLoginGallery(myMemberId) );
-            // 검증 성공시 다음 로직 실행
-            foundOppositeFollow.changeFollowTogetherCheck(false);
+        galleryService.verifiedGalleryExist(otherGalleryId);
+        Follow foundMyFollowing = followRepository.findByMember_MemberIdAndGallery_GalleryId(myMemberId, otherGalleryId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.FOLLOW_NOT_FOUND_FROM_GALLERY));
+        Long otherMemberId = foundMyFollowing.getFollowMemberId();
+
+        // 맞팔상태일때 : (other) true, true (me) ->  (other) false , deleted (me)
+        if(followGraphRepository.isMutual(myMemberId, otherMemberId)){
+            followRepository.updateFollowTogetherCheck(otherMemberId, myMemberId, false);
         }
         followRepository.delete(foundMyFollowing);
+        followGraphRepository.removeFollow(myMemberId, otherMemberId);
+        publishFollowEvent(myMemberId, otherMemberId, false);
+        galleryService.decreaseFollowCount(myMemberId, otherGalleryId);
+        publishFollowChangedEvent(myMemberId, otherGalleryId);
         return true;
     }
 
     @Transactional
     public Boolean deleteFollower(Long myMemberId, Long followId) {
-        Member myMember = memberService.findMember(myMemberId);
         Gallery myGallery = galleryService.findLoginGallery(myMemberId);
         Follow foundFollower = findVerifiedFollow(followId); //맞팔리스트의 follow id
 
         if(!Objects.equals(foundFollower.getGallery().getGalleryId(), myGallery.getGalleryId())){
             throw new BusinessLogicException(ExceptionCode.FOLLOW_NOT_FOUND_FROM_GALLERY);
         }
+        Long followerMemberId = foundFollower.getMember().getMemberId();
+
         // 내가 팔로잉 하고 있을떄 (맞팔 상태일때) : (other) true, true (me) -> (other) deleted, false (me)
-        if(foundFollower.getIsFollowTogetherCheck()){
-            Follow foundMyFollow =
-                    findVerifiedFollowByFollowMemberIdAndMember(foundFollower.getMember().getMemberId(), myMember);
-            // 검증 성공시 다음 로직 실행
-            foundMyFollow.changeFollowTogetherCheck(false);
+        if(followGraphRepository.isMutual(myMemberId, followerMemberId)){
+            followRepository.updateFollowTogetherCheck(myMemberId, followerMemberId, false);
         }
         followRepository.delete(foundFollower);
+        followGraphRepository.removeFollow(followerMemberId, myMemberId);
+        publishFollowEvent(followerMemberId, myMemberId, false);
+        galleryService.decreaseFollowCount(followerMemberId, myGallery.getGalleryId());
+        publishFollowChangedEvent(followerMemberId, myGallery.getGalleryId());
         return true;
     }
 
-    @Transactional(readOnly = true) //해당 갤러리의 팔로잉 리스트를 불러온다.
-    public Object getFollowingListByGalleryId(Long galleryId) {
+    @Transactional(readOnly = true) //해당 갤러리의 팔로잉 리스트를 불러온다. (dto로 바로 조회, followId 내림차순 커서 페이지)
+    public FollowCursorResponseDto<List<FollowingResponseDto>> getFollowingListByGalleryId(Long galleryId, String cursor, int size) {
         Long galleryOwnerMemberId = galleryService.findGallery(galleryId).getMember().getMemberId();
-        List<Follow> followingList = followRepository.findAllByMember_MemberIdAndGallery_StatusOrderByFollowIdDesc(galleryOwnerMemberId, GalleryStatus.OPEN);
-        return FollowingResponseDto.toFollowingResponseDtoList(followingList);
+        int pageSize = Math.min(size, maxPageSize);
+        //다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<FollowingResponseDto> followingList;
+        if (cursor == null) {
+            followingList = followRepository.findFollowingFirstPage(galleryOwnerMemberId, GalleryStatus.OPEN, pageRequest);
+        } else {
+            followingList = followRepository.findFollowingNextPage(
+                    galleryOwnerMemberId, GalleryStatus.OPEN, parseCursorFollowId(cursor), pageRequest);
+        }
+        return toCursorResponse(galleryId, followingList, pageSize, FollowingResponseDto::getFollowId);
     }
 
-    @Transactional(readOnly = true) //해당 갤러리의 팔로워 리스트를 불러온다.
-    public Object getFollowerListByGalleryId(Long galleryId) {
+    @Transactional(readOnly = true) //해당 갤러리의 팔로워 리스트를 불러온다. (dto로 바로 조회, member Active 만 조회, followId 내림차순 커서 페이지)
+    public FollowCursorResponseDto<List<FollowerResponseDto>> getFollowerListByGalleryId(Long galleryId, String cursor, int size) {
         Long galleryOwnerMemberId = galleryService.findGallery(galleryId).getMember().getMemberId();
-        List<Follow> followerList = followRepository.findAllFollowerListByMemberId(galleryOwnerMemberId); //member Active 만 조회
-        return FollowerResponseDto.toFollowerResponseDtoList(followerList);
+        int pageSize = Math.min(size, maxPageSize);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<FollowerResponseDto> followerList;
+        if (cursor == null) {
+            followerList = followRepository.findFollowerFirstPage(
+                    galleryOwnerMemberId, GalleryStatus.OPEN, MemberStatus.ACTIVE, pageRequest);
+        } else {
+            followerList = followRepository.findFollowerNextPage(
+                    galleryOwnerMemberId, GalleryStatus.OPEN, MemberStatus.ACTIVE, parseCursorFollowId(cursor), pageRequest);
+        }
+        return toCursorResponse(galleryId, followerList, pageSize, FollowerResponseDto::getFollowId);
     }
 
-    //---검증로직---//
-    private Follow findVerifiedFollowByFollowMemberIdAndMember(Long memberId, Member myMember) {
-        return followRepository.findByFollowMemberIdAndMember(memberId, myMember).orElseThrow(
-                () -> new BusinessLogicException(ExceptionCode.FOLLOW_NOT_FOUND_FROM_GALLERY));
+    private <T> FollowCursorResponseDto<List<T>> toCursorResponse(Long galleryId, List<T> followList, int pageSize,
+                                                                  Function<T, Long> followIdGetter) {
+        boolean hasNext = followList.size() > pageSize;
+        List<T> response = hasNext ? followList.subList(0, pageSize) : followList;
+        String nextCursor = hasNext ? CursorUtils.encode(followIdGetter.apply(response.get(pageSize - 1))) : null;
+
+        return new FollowCursorResponseDto<>(galleryId, response, new CursorPageInfo(pageSize, hasNext, nextCursor));
     }
+
+    private Long parseCursorFollowId(String cursor) {
+        String[] keys = CursorUtils.decode(cursor, 1);
+        try {
+            return Long.valueOf(keys[0]);
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    //팔로우 대상 전시관(팔로워 수)과 팔로우 한 회원의 전시관(팔로잉 수) 응답 버전 갱신
+    private void publishFollowChangedEvent(Long followMemberId, Long targetGalleryId) {
+        galleryEventPublisher.publishGalleryEvent(targetGalleryId);
+        galleryService.findLoginGalleryId(followMemberId)
+                .ifPresent(galleryEventPublisher::publishGalleryEvent);
+    }
+
+    private void publishFollowEvent(Long memberId, Long followMemberId, boolean follow) {
+        followEventPublisher.publishFollowEvent(FollowEvent.builder()
+                .memberId(memberId)
+                .followMemberId(followMemberId)
+                .follow(follow)
+                .build());
+    }
+
+    //---검증로직---//
     private Follow findVerifiedFollow(Long followId) {
         return followRepository.findById(followId).orElseThrow(
                 () -> new BusinessLogicException(ExceptionCode.FOLLOW_NOT_FOUND));
     }
-    private Follow findVerifiedFollowByMemberAndGallery(Member member, Gallery gallery) {
-        return followRepository.findByMemberAndGallery(member, gallery).orElseThrow(
-                () -> new BusinessLogicException(ExceptionCode.FOLLOW_NOT_FOUND_FROM_GALLERY));
-    }
 
 }
 
@@ -5,6 +5,7 @@ import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryPostR
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryRequestDto;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.service.GalleryResponseCacheService;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.service.GalleryService;
 import com.codestates.mainproject.oneyearfourcut.global.config.auth.LoginMember;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 
@@ -21,6 +23,7 @@ import javax.validation.Valid;
 @Validated
 public class GalleryController {
     private final GalleryService galleryService;
+    private final GalleryResponseCacheService galleryResponseCacheService;
 
     //전시관 등록
     @PostMapping
@@ -31,12 +34,11 @@ public class GalleryController {
         return new ResponseEntity<>(galleryPostResponseDto, HttpStatus.CREATED);
     }
 
-    //전시관 조회
+    //전시관 조회 (회원별 값이 없어 모두 비회원 응답을 공유, 전시관 버전이 같으면 304)
     @GetMapping("/{gallery-id}")
-    public ResponseEntity getGallery(@PathVariable("gallery-id") Long galleryId) {
-        GalleryResponseDto galleryResponseDto = galleryService.findGalleryResponseDto(galleryId);
-
-        return new ResponseEntity<>(galleryResponseDto, HttpStatus.OK);
+    public ResponseEntity getGallery(@PathVariable("gallery-id") Long galleryId, WebRequest webRequest) {
+        return galleryResponseCacheService.getResponse(webRequest, "gallery", galleryId, -1,
+                () -> galleryService.findGalleryResponseDto(galleryId));
     }
 
     //전시관 수정
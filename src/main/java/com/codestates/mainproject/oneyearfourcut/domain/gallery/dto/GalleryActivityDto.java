@@ -0,0 +1,35 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.dto;
+
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentGalleryResDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+//전시관 실시간 활동 (/sub/galleries/{gallery-id}/activity), 전송 주기 동안 바뀐 것만 담고 빈 목록은 생략
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class GalleryActivityDto {
+    private Long galleryId;
+    private List<CommentGalleryResDto> commentList;
+    private List<LikeCount> likeCountList;   //바뀐 작품의 현재 좋아요 수
+    private List<NewArtwork> artworkList;
+
+    @Getter
+    @AllArgsConstructor
+    public static class LikeCount {
+        private Long artworkId;
+        private int likeCount;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NewArtwork {
+        private Long artworkId;
+        private String imagePath;
+        private LocalDateTime createdAt;
+    }
+}
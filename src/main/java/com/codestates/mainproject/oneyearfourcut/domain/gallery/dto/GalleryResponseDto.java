@@ -14,6 +14,6 @@ public class GalleryResponseDto {
     private String title;
     private String content;
     private LocalDateTime createdAt;
-    private Long followingCount;
-    private Long followerCount;
+    private int followingCount;
+    private int followerCount;
 }
@@ -7,7 +7,7 @@ import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryPostR
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.*;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
@@ -34,20 +34,26 @@ public class Gallery extends Auditable {
     @Enumerated(EnumType.STRING)
     private GalleryStatus status;
 
-    @Formula("(select count(*) from follow f where f.member_id = member_id)")
-    private Long followingCount;
+    // 댓글 수 카운터는 GalleryRepository의 update 쿼리로만 변경 (작품 댓글 포함, 엔티티 flush 시 덮어쓰지 않도록 insertable, updatable = false)
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private int commentCount;
 
-    @Formula("(select count(*) from follow f where f.gallery_id = gallery_id) ")
-    private Long followerCount;
+    // 팔로잉(전시관 주인이 팔로우 한 수), 팔로워(이 전시관을 팔로우 한 수) 카운터도 FollowService에서 update 쿼리로만 변경
+    @ColumnDefault("0")
+    @Column(name = "following_count", nullable = false, insertable = false, updatable = false)
+    private int followingCount;
+
+    @ColumnDefault("0")
+    @Column(name = "follower_count", nullable = false, insertable = false, updatable = false)
+    private int followerCount;
 
     @Builder
-    public Gallery(String title, String content, GalleryStatus status, Member member, Long followingCount, Long followerCount) {
+    public Gallery(String title, String content, GalleryStatus status, Member member) {
         this.title = title;
         this.content = content;
         this.status = status;
         this.member = member;
-        this.followingCount = followingCount;
-        this.followerCount = followerCount;
     }
 
     //jpa 연관관계 맵핑 위해 생성하는 member 엔티티 용 생성자
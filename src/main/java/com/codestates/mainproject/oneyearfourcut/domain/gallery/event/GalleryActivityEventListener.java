@@ -0,0 +1,38 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.event;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.event.ArtworkLikeEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEventType;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.event.CommentEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryActivityDto;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryActivityBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+//커밋된 활동만 실시간 전송 버퍼에 모음 (전송은 GalleryActivityFlushService)
+@Component
+@RequiredArgsConstructor
+public class GalleryActivityEventListener {
+    private final GalleryActivityBuffer galleryActivityBuffer;
+
+    @TransactionalEventListener
+    public void handleCommentEvent(CommentEvent event) {
+        galleryActivityBuffer.addComment(event.getGalleryId(), event.getComment());
+    }
+
+    @TransactionalEventListener
+    public void handleArtworkEvent(ArtworkEvent event) {
+        if (event.getType() != ArtworkEventType.CREATE) {
+            return;
+        }
+        galleryActivityBuffer.addArtwork(event.getGalleryId(), new GalleryActivityDto.NewArtwork(
+                event.getArtworkId(), event.getImagePath(), event.getCreatedAt()));
+    }
+
+    //좋아요 토글은 트랜잭션 없이 발행됨
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleArtworkLikeEvent(ArtworkLikeEvent event) {
+        galleryActivityBuffer.addLike(event.getGalleryId(), event.getArtworkId());
+    }
+}
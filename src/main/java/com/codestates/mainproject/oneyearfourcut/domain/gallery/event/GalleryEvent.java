@@ -0,0 +1,19 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+//전시관 응답이 바뀌는 변경 (galleryId가 없으면 전체 전시관)
+@Getter
+public class GalleryEvent {
+    private final Long galleryId;
+
+    @Builder
+    public GalleryEvent(Long galleryId) {
+        this.galleryId = galleryId;
+    }
+
+    public boolean isAll() {
+        return this.galleryId == null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.event;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.event.ArtworkLikeEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.event.ArtworkEvent;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class GalleryEventListener {
+    private final GalleryVersionRepository galleryVersionRepository;
+
+    //커밋된 변경만 버전에 반영 (커밋 전에 올리면 이전 데이터가 새 버전으로 캐시될 수 있음)
+    @TransactionalEventListener
+    public void handleGalleryEvent(GalleryEvent event) {
+        if (event.isAll()) {
+            galleryVersionRepository.increaseAll();
+        } else {
+            galleryVersionRepository.increase(event.getGalleryId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void handleArtworkEvent(ArtworkEvent event) {
+        galleryVersionRepository.increase(event.getGalleryId());
+    }
+
+    //좋아요 토글은 트랜잭션 없이 발행됨
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleArtworkLikeEvent(ArtworkLikeEvent event) {
+        galleryVersionRepository.increase(event.getGalleryId());
+    }
+}
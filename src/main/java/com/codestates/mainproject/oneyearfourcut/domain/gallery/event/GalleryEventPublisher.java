@@ -0,0 +1,20 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class GalleryEventPublisher {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void publishGalleryEvent(Long galleryId) {
+        applicationEventPublisher.publishEvent(new GalleryEvent(galleryId));
+    }
+
+    //회원 닉네임, 프로필처럼 여러 전시관 응답에 걸친 변경
+    public void publishAllGalleryEvent() {
+        applicationEventPublisher.publishEvent(new GalleryEvent(null));
+    }
+}
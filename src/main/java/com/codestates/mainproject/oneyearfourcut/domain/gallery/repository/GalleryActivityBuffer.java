@@ -0,0 +1,67 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.repository;
+
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentGalleryResDto;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryActivityDto;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전시관별 실시간 활동을 전송 주기 동안 모아두는 버퍼
+ * - 커밋된 새 댓글, 새 작품과 좋아요가 바뀐 작품 id만 들고 있다가 전송 때 전시관마다 한 번에 꺼낸다.
+ * - 좋아요는 여러 번 바뀌어도 작품 id 하나로 모으고, 전송 때 현재 좋아요 수를 읽는다.
+ */
+@Component
+public class GalleryActivityBuffer {
+    private final Map<Long, PendingActivity> pendingActivities = new ConcurrentHashMap<>();
+
+    public void addComment(Long galleryId, CommentGalleryResDto comment) {
+        pendingActivities.compute(galleryId, (id, pending) -> {
+            pending = pending == null ? new PendingActivity(id) : pending;
+            pending.commentList.add(comment);
+            return pending;
+        });
+    }
+
+    public void addLike(Long galleryId, Long artworkId) {
+        pendingActivities.compute(galleryId, (id, pending) -> {
+            pending = pending == null ? new PendingActivity(id) : pending;
+            pending.likedArtworkIds.add(artworkId);
+            return pending;
+        });
+    }
+
+    public void addArtwork(Long galleryId, GalleryActivityDto.NewArtwork artwork) {
+        pendingActivities.compute(galleryId, (id, pending) -> {
+            pending = pending == null ? new PendingActivity(id) : pending;
+            pending.artworkList.add(artwork);
+            return pending;
+        });
+    }
+
+    //모인 활동을 전시관별로 꺼내고 버퍼에서 지움
+    public List<PendingActivity> drain() {
+        List<PendingActivity> activityList = new ArrayList<>();
+        for (Long galleryId : pendingActivities.keySet()) {
+            PendingActivity pending = pendingActivities.remove(galleryId);
+            if (pending != null) {
+                activityList.add(pending);
+            }
+        }
+        return activityList;
+    }
+
+    @Getter
+    public static class PendingActivity {
+        private final Long galleryId;
+        private final List<CommentGalleryResDto> commentList = new ArrayList<>();
+        private final Set<Long> likedArtworkIds = new LinkedHashSet<>();
+        private final List<GalleryActivityDto.NewArtwork> artworkList = new ArrayList<>();
+
+        private PendingActivity(Long galleryId) {
+            this.galleryId = galleryId;
+        }
+    }
+}
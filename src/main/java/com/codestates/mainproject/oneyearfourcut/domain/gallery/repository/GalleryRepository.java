@@ -3,9 +3,46 @@ package com.codestates.mainproject.oneyearfourcut.domain.gallery.repository;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface GalleryRepository extends JpaRepository<Gallery, Long> {
     Optional<Gallery> findByMember_MemberIdAndStatus(Long memberId, GalleryStatus status);
+
+    //댓글 수는 엔티티를 읽지 않고 DB에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE Gallery g SET g.commentCount = g.commentCount + :delta WHERE g.galleryId = :galleryId")
+    int updateCommentCount(@Param("galleryId") Long galleryId, @Param("delta") int delta);
+
+    //팔로워 수는 팔로우 대상 전시관에만 반영
+    @Modifying
+    @Query("UPDATE Gallery g SET g.followerCount = g.followerCount + :delta WHERE g.galleryId = :galleryId")
+    int updateFollowerCount(@Param("galleryId") Long galleryId, @Param("delta") int delta);
+
+    //팔로잉 수는 회원 기준이므로 그 회원의 모든 전시관(폐관 포함)에 반영
+    @Modifying
+    @Query("UPDATE Gallery g SET g.followingCount = g.followingCount + :delta WHERE g.member.memberId = :memberId")
+    int updateFollowingCount(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    //새로 연 전시관은 회원이 이미 팔로우 중인 수로 시작
+    @Modifying
+    @Query(value = "UPDATE gallery SET " +
+            "following_count = (SELECT COUNT(*) FROM follow f WHERE f.member_id = gallery.member_id) " +
+            "WHERE gallery_id = :galleryId",
+            nativeQuery = true)
+    int syncFollowingCount(@Param("galleryId") Long galleryId);
+
+    //카운터 컬럼 도입 이전 데이터 보정용 (comment, follow 테이블 기준으로 다시 집계)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE gallery SET " +
+            "comment_count = (SELECT COUNT(*) FROM comment c WHERE c.gallery_id = gallery.gallery_id), " +
+            "following_count = (SELECT COUNT(*) FROM follow f WHERE f.member_id = gallery.member_id), " +
+            "follower_count = (SELECT COUNT(*) FROM follow f WHERE f.gallery_id = gallery.gallery_id)",
+            nativeQuery = true)
+    int syncCountColumns();
 }
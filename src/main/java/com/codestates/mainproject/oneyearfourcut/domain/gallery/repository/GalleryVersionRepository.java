@@ -0,0 +1,80 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전시관별 응답 버전과 비회원 응답 본문(직렬화된 JSON)을 메모리에 유지
+ * - 작품, 좋아요, 댓글, 전시관, 팔로우 변경 커밋 이벤트마다 해당 전시관 버전을 올린다.
+ * - 회원 정보처럼 여러 전시관에 걸친 변경은 전체 버전을 올린다.
+ * - 버전 문자열에 서버 시작 시각을 넣어 재시작 후 이전 ETag와 겹치지 않도록 한다. (인스턴스 단위 버전)
+ */
+@Component
+public class GalleryVersionRepository {
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    private final Map<String, CachedBody> bodies = new ConcurrentHashMap<>();
+    private final int maxBodySize;
+
+    public GalleryVersionRepository(@Value("${gallery.cache.max-size:1000}") int maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    //조회된 적 없는 전시관은 맵에 올리지 않고 0번 버전으로 취급
+    public String findVersion(long galleryId) {
+        AtomicLong version = versions.get(galleryId);
+        return bootId + "." + globalVersion.get() + "." + (version == null ? 0 : version.get());
+    }
+
+    public void increase(long galleryId) {
+        versions.computeIfAbsent(galleryId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void increaseAll() {
+        globalVersion.incrementAndGet();
+        bodies.clear();
+    }
+
+    public Optional<byte[]> findBody(long galleryId, String resource, String version) {
+        CachedBody cachedBody = bodies.get(toKey(galleryId, resource));
+        if (cachedBody == null || !cachedBody.version.equals(version)) {
+            return Optional.empty();
+        }
+        return Optional.of(cachedBody.body);
+    }
+
+    //버전이 지난 본문은 다음 저장 때 덮어쓰고, 최대 개수를 넘으면 임의의 본문을 버린다.
+    public void saveBody(long galleryId, String resource, String version, byte[] body) {
+        String key = toKey(galleryId, resource);
+        if (!bodies.containsKey(key) && bodies.size() >= maxBodySize) {
+            Iterator<String> iterator = bodies.keySet().iterator();
+            if (iterator.hasNext()) {
+                bodies.remove(iterator.next());
+            }
+        }
+        bodies.put(key, new CachedBody(version, body));
+    }
+
+    private String toKey(long galleryId, String resource) {
+        return galleryId + ":" + resource;
+    }
+
+    private static class CachedBody {
+        private final String version;
+        private final byte[] body;
+
+        private CachedBody(String version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.service;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeIndexRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryActivityDto;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryActivityBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전송 주기마다 전시관별로 모인 활동을 STOMP로 한 번씩 전송 (/sub/galleries/{gallery-id}/activity)
+ * - 관람 중인 화면은 이 구독으로 새 댓글, 좋아요 수, 새 작품을 받아 목록을 다시 조회하지 않아도 된다.
+ * - 좋아요 수는 DB 저장 전에도 최신인 좋아요 인덱스에서 읽는다. (DB 조회 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GalleryActivityFlushService {
+    private static final String ACTIVITY_DESTINATION = "/sub/galleries/%d/activity";
+
+    private final GalleryActivityBuffer galleryActivityBuffer;
+    private final ArtworkLikeIndexRepository artworkLikeIndexRepository;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    @Scheduled(fixedDelayString = "${gallery.activity.flush-interval-millis:300}",
+            initialDelayString = "${gallery.activity.flush-interval-millis:300}")
+    public void flush() {
+        for (GalleryActivityBuffer.PendingActivity pending : galleryActivityBuffer.drain()) {
+            GalleryActivityDto activity = toGalleryActivityDto(pending);
+            if (activity.getCommentList().isEmpty() && activity.getLikeCountList().isEmpty()
+                    && activity.getArtworkList().isEmpty()) {
+                continue;
+            }
+            //한 전시관 전송 실패가 다른 전시관 전송을 막지 않도록
+            try {
+                messagingTemplate.convertAndSend(String.format(ACTIVITY_DESTINATION, pending.getGalleryId()), activity);
+            } catch (RuntimeException e) {
+                log.warn("전시관 활동 전송 실패 : gallery {}", pending.getGalleryId(), e);
+            }
+        }
+    }
+
+    private GalleryActivityDto toGalleryActivityDto(GalleryActivityBuffer.PendingActivity pending) {
+        //그 사이 삭제되어 인덱스에서 빠진 작품은 제외
+        Map<Long, Integer> likeCounts = artworkLikeIndexRepository.findLoadedLikeCounts(pending.getLikedArtworkIds());
+        List<GalleryActivityDto.LikeCount> likeCountList = new ArrayList<>();
+        likeCounts.forEach((artworkId, likeCount) ->
+                likeCountList.add(new GalleryActivityDto.LikeCount(artworkId, likeCount)));
+
+        return new GalleryActivityDto(pending.getGalleryId(), pending.getCommentList(), likeCountList,
+                pending.getArtworkList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.codestates.mainproject.oneyearfourcut.domain.gallery.service;
+
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryVersionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 전시관 버전 기반 조건부 조회 응답
+ * - ETag는 (리소스, 전시관 id, 전시관 버전, 회원 id)로 만들고, If-None-Match가 같으면 조회 없이 304로 응답한다.
+ * - 비회원(memberId == -1) 응답은 회원별 값이 없으므로 직렬화한 본문을 버전과 함께 캐시한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class GalleryResponseCacheService {
+    private final GalleryVersionRepository galleryVersionRepository;
+    private final ObjectMapper objectMapper;
+
+    public ResponseEntity<?> getResponse(WebRequest webRequest, String resource, long galleryId, long memberId,
+                                         Supplier<?> responseSupplier) {
+        //조회 전에 버전을 읽어야 조회 도중 커밋된 변경이 이전 버전 응답으로 남지 않음
+        String version = galleryVersionRepository.findVersion(galleryId);
+        String eTag = createETag(resource, galleryId, version, memberId);
+
+        //ETag 헤더와 304 판단은 checkNotModified가 처리하므로 응답 엔티티에는 ETag를 다시 넣지 않음 (헤더 중복 방지)
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache());
+        if (memberId != -1) {
+            return builder.body(responseSupplier.get());
+        }
+
+        byte[] body = galleryVersionRepository.findBody(galleryId, resource, version)
+                .orElseGet(() -> {
+                    byte[] serialized = serialize(responseSupplier.get());
+                    galleryVersionRepository.saveBody(galleryId, resource, version, serialized);
+                    return serialized;
+                });
+        return builder.contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private String createETag(String resource, long galleryId, String version, long memberId) {
+        String eTag = "\"" + resource + "-" + galleryId + "-" + version;
+        if (memberId != -1) {
+            eTag += "-" + memberId;
+        }
+        return eTag + "\"";
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("전시관 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryReque
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.event.GalleryEventPublisher;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import com.codestates.mainproject.oneyearfourcut.domain.member.service.MemberService;
@@ -28,6 +29,7 @@ import static com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Ga
 public class GalleryService {
     private final GalleryRepository galleryRepository;
     private final MemberService memberService;
+    private final GalleryEventPublisher galleryEventPublisher;
 
     public GalleryPostResponseDto createGallery(GalleryRequestDto galleryRequestDto, Long memberId) {
         // 오픈된 전시관이 이미 존재하는지 확인하고 있으면 에러
@@ -36,6 +38,8 @@ public class GalleryService {
         Gallery gallery = galleryRequestDto.toEntity(memberId);
 
         Gallery savedGallery = galleryRepository.save(gallery);
+        galleryRepository.syncFollowingCount(savedGallery.getGalleryId());
+        galleryEventPublisher.publishGalleryEvent(savedGallery.getGalleryId());
 
         return savedGallery.toGalleryPostResponseDto();
     }
@@ -49,6 +53,7 @@ public class GalleryService {
                 .ifPresent(findGallery::updateContent);
 
         Gallery savedGallery = galleryRepository.save(findGallery);
+        galleryEventPublisher.publishGalleryEvent(savedGallery.getGalleryId());
 
         return savedGallery.toGalleryResponseDto();
     }
@@ -73,6 +78,7 @@ public class GalleryService {
         Gallery findGallery = findLoginGallery(loginId);
 
         findGallery.updateStatus(CLOSED);
+        galleryEventPublisher.publishGalleryEvent(findGallery.getGalleryId());
     }
 
     //전시관이 유효한지 검증하는 메서드
@@ -87,6 +93,37 @@ public class GalleryService {
         if (findGallery.getStatus() == CLOSED) throw new BusinessLogicException(ExceptionCode.CLOSED_GALLERY);
     }
 
+    //전시관 댓글 수 (작품 댓글 포함, 카운터 컬럼 값)
+    @Transactional(readOnly = true)
+    public int findCommentCount(Long galleryId) {
+        return galleryRepository.findById(galleryId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.GALLERY_NOT_FOUND))
+                .getCommentCount();
+    }
+
+    public void increaseCommentCount(long galleryId) {
+        galleryRepository.updateCommentCount(galleryId, 1);
+    }
+
+    public void decreaseCommentCount(long galleryId, int count) {
+        galleryRepository.updateCommentCount(galleryId, -count);
+    }
+
+    //팔로우 한 회원의 팔로잉 수와 대상 전시관의 팔로워 수를 같이 증감
+    //전시관을 폐관해도 팔로우는 남아 있으므로 카운터도 그대로 둠 (폐관된 전시관은 조회되지 않음)
+    public void increaseFollowCount(long followMemberId, long targetGalleryId) {
+        updateFollowCount(followMemberId, targetGalleryId, 1);
+    }
+
+    public void decreaseFollowCount(long followMemberId, long targetGalleryId) {
+        updateFollowCount(followMemberId, targetGalleryId, -1);
+    }
+
+    private void updateFollowCount(long followMemberId, long targetGalleryId, int delta) {
+        galleryRepository.updateFollowingCount(followMemberId, delta);
+        galleryRepository.updateFollowerCount(targetGalleryId, delta);
+    }
+
     //로그인 유저의 갤러리를 가져오는 메서드
     @Transactional(readOnly = true)
     public Gallery findLoginGallery(Long memberId) {
@@ -96,6 +133,13 @@ public class GalleryService {
     }
 
 
+    //로그인 유저의 오픈된 전시관 id (전시관이 없으면 empty)
+    @Transactional(readOnly = true)
+    public Optional<Long> findLoginGalleryId(Long memberId) {
+        return galleryRepository.findByMember_MemberIdAndStatus(memberId, OPEN)
+                .map(Gallery::getGalleryId);
+    }
+
     //유저가 전시관을 열 수 있는지 확인하는 메서드(이미 오픈된 전시관을 가지고 있으면 에러)
     private void verifiedMemberCanOpenGallery(Long memberId) {
         Member loginMember = memberService.findMember(memberId);
@@ -9,6 +9,7 @@ import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
 import com.codestates.mainproject.oneyearfourcut.domain.member.dto.MemberResponseDto;
 import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
+import com.codestates.mainproject.oneyearfourcut.global.storage.UploadedImage;
 import lombok.*;
 
 import javax.persistence.*;
@@ -36,6 +37,13 @@ public class Member extends Auditable {
     @Column(nullable = false)
     private String profile;
 
+    //업로드한 프로필 이미지의 변환본 (카카오 프로필 등 변환본이 없으면 null)
+    @Column(columnDefinition = "TEXT")
+    private String profileMedium;
+
+    @Column(columnDefinition = "TEXT")
+    private String profileThumbnail;
+
     private Long kakaoId;
 
     @Enumerated(EnumType.STRING)
@@ -62,8 +70,15 @@ public class Member extends Auditable {
     public void updateNickname(String nickname) {
         this.nickname = nickname;
     }
-    public void updateProfile(String profile) {
-        this.profile = profile;
+    public void updateProfile(UploadedImage uploadedImage) {
+        this.profile = uploadedImage.getImagePath();
+        this.profileMedium = uploadedImage.getMediumPath();
+        this.profileThumbnail = uploadedImage.getThumbnailPath();
+    }
+
+    //목록 화면용 프로필 (썸네일이 없으면 원본)
+    public String getListProfile() {
+        return Optional.ofNullable(this.profileThumbnail).orElse(this.profile);
     }
 
     public void updateStatus(MemberStatus status) {
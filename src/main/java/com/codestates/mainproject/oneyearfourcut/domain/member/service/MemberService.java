@@ -1,12 +1,13 @@
 package com.codestates.mainproject.oneyearfourcut.domain.member.service;
 
 import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.event.GalleryEventPublisher;
 import com.codestates.mainproject.oneyearfourcut.domain.member.dto.MemberRequestDto;
 import com.codestates.mainproject.oneyearfourcut.domain.member.dto.MemberResponseDto;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
 import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
 import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
-import com.codestates.mainproject.oneyearfourcut.global.aws.service.AwsS3Service;
+import com.codestates.mainproject.oneyearfourcut.global.storage.ImageUploadService;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
 import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
@@ -27,11 +28,12 @@ import java.util.Optional;
 @Transactional
 public class MemberService {
     private final MemberRepository memberRepository;
-    private final AwsS3Service awsS3Service;
+    private final ImageUploadService imageUploadService;
     private final RestTemplate restTemplate;
     @Value("${kakao.admin-key}")
     private String adminKey;
     private final FollowRepository followRepository;
+    private final GalleryEventPublisher galleryEventPublisher;
 
     public void createMember(Member postMember) {   //Oauth Kakao 로그인 시 회원가입 진행
         Optional<Member> optionalMember = memberRepository.findByEmail(postMember.getEmail());
@@ -52,16 +54,20 @@ public class MemberService {
         Optional<MultipartFile> multipartFile = Optional.ofNullable(memberRequestDto.getProfile());
 
         if (multipartFile.isPresent() && !multipartFile.get().isEmpty()) {
-            //이미지 저장하고, 해당 경로를 findMember에 넣어주는 로직
+            //이미지와 변환본을 저장하고, 해당 경로를 findMember에 넣어주는 로직
             String profile = findMember.getProfile();
-            findMember.updateProfile(awsS3Service.uploadFile(multipartFile.get()));
+            String profileMedium = findMember.getProfileMedium();
+            String profileThumbnail = findMember.getProfileThumbnail();
+            findMember.updateProfile(imageUploadService.upload(multipartFile.get()));
             if (!profile.contains("kakaocdn.net")) {
-                awsS3Service.deleteImage(profile);
+                imageUploadService.delete(profile, profileMedium, profileThumbnail);
             }
         }
 
 
         Member savedMember = memberRepository.save(findMember);
+        //닉네임, 프로필은 회원이 작품을 건 모든 전시관 응답에 포함됨
+        galleryEventPublisher.publishAllGalleryEvent();
 
         return savedMember.toMemberResponseDto();
     }
@@ -88,6 +94,7 @@ public class MemberService {
         findMember.updateStatus(MemberStatus.DELETE);
 
         Member member = memberRepository.save(findMember);
+        galleryEventPublisher.publishAllGalleryEvent();
 
         // 카카오 연결끊기 api 요청
         URI uri = UriComponentsBuilder
@@ -2,70 +2,118 @@ package com.codestates.mainproject.oneyearfourcut.global.aws.service;
 
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
-import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.codestates.mainproject.oneyearfourcut.global.storage.ImageStorage;
+import com.codestates.mainproject.oneyearfourcut.global.storage.UploadInputStream;
 import com.codestates.mainproject.oneyearfourcut.global.util.FileUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
-public class AwsS3Service {
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class AwsS3Service implements ImageStorage {
+
+    private static final int MAX_DELETE_KEYS = 1000;
 
     private final AmazonS3Client amazonS3Client;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Override
     public String uploadFile(MultipartFile multipartFile){
 
-        String fileName = createFileName(multipartFile.getOriginalFilename());
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(multipartFile.getSize());
-        metadata.setContentType(multipartFile.getContentType());
+        String fileName = FileUtils.createFileName(multipartFile.getOriginalFilename());
 
-        if (!FileUtils.validFile(multipartFile)) {
-            throw new BusinessLogicException(ExceptionCode.UNSUPPORTED_FILE_EXTENSION);
-        }
+        //형식 검증, 업로드, 체크섬 계산을 한 번의 읽기로 처리
+        try (UploadInputStream inputStream = UploadInputStream.open(multipartFile)) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(multipartFile.getSize());
+            metadata.setContentType(inputStream.getMimeType());
 
-        try (InputStream inputStream = multipartFile.getInputStream()) {
-
-            amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata));
+            PutObjectResult result = amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata));
+            if (!isUploadedIntact(result, inputStream, multipartFile.getSize())) {
+                amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, fileName));
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다.");
+            }
         } catch (IOException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다.");
         }
         return amazonS3Client.getUrl(bucket, fileName).toString();
     }
 
-    // 이미지 수정으로 인해 기존 이미지 삭제 메소드
-    public void deleteImage(String fileUrl) {
-        String splitStr = ".com/";
-        String fileName = fileUrl.substring(fileUrl.lastIndexOf(splitStr) + splitStr.length());
+    @Override
+    public String uploadGeneratedFile(byte[] content, String fileName, String contentType) {
+        String storedFileName = FileUtils.createFileName(fileName);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+
+        amazonS3Client.putObject(new PutObjectRequest(bucket, storedFileName, new ByteArrayInputStream(content), metadata));
+        return amazonS3Client.getUrl(bucket, storedFileName).toString();
+    }
 
-        amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, fileName));
+    //단일 PUT의 ETag는 본문 MD5이므로 읽은 크기와 함께 비교 (암호화 등으로 MD5가 아닌 ETag는 크기만 비교)
+    private boolean isUploadedIntact(PutObjectResult result, UploadInputStream inputStream, long expectedSize) {
+        if (inputStream.getSize() != expectedSize) {
+            log.warn("업로드 크기 불일치 : expected={}, actual={}", expectedSize, inputStream.getSize());
+            return false;
+        }
+        String eTag = result == null ? null : result.getETag();
+        if (eTag == null || !eTag.matches("[0-9a-fA-F]{32}")) {
+            return true;
+        }
+        return eTag.equalsIgnoreCase(inputStream.getMd5Hex());
     }
 
-    private String createFileName(String fileName) {
-        return UUID.randomUUID().toString().concat(getFileExtension(fileName));
+    // 이미지 수정으로 인해 기존 이미지 삭제 메소드
+    @Override
+    public void deleteImage(String fileUrl) {
+        amazonS3Client.deleteObject(new DeleteObjectRequest(bucket, toKey(fileUrl)));
     }
 
-    private String getFileExtension(String fileName) {
-        try {
-            return fileName.substring(fileName.lastIndexOf("."));
-        } catch (StringIndexOutOfBoundsException se) {
-            throw new BusinessLogicException(ExceptionCode.INVALID_FILE_TYPE);
+    //multi-object delete (요청 한 번에 최대 1000개)
+    @Override
+    public List<String> deleteImages(List<String> fileUrls) {
+        Map<String, String> urlByKey = new HashMap<>();
+        fileUrls.forEach(fileUrl -> urlByKey.put(toKey(fileUrl), fileUrl));
+
+        List<String> failedUrls = new ArrayList<>();
+        List<String> keys = new ArrayList<>(urlByKey.keySet());
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<String> batch = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()));
+            try {
+                amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                        .withKeys(batch.toArray(new String[0]))
+                        .withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failedUrls.add(urlByKey.get(error.getKey())));
+            }
         }
+        return failedUrls;
+    }
+
+    private String toKey(String fileUrl) {
+        String splitStr = ".com/";
+        return fileUrl.substring(fileUrl.lastIndexOf(splitStr) + splitStr.length());
     }
 }
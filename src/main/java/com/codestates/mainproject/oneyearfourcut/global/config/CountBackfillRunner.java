@@ -0,0 +1,31 @@
+package com.codestates.mainproject.oneyearfourcut.global.config;
+
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터 컬럼 도입 전에 쌓인 데이터를 한 번 보정하기 위한 러너
+ * count.backfill.enabled=true 로 한 번 기동한 후 다시 꺼두면 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "count.backfill.enabled", havingValue = "true")
+public class CountBackfillRunner implements ApplicationRunner {
+    private final ArtworkRepository artworkRepository;
+    private final GalleryRepository galleryRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int artworkCount = artworkRepository.syncCountColumns();
+        log.info("# artwork like/comment count backfill : {} rows", artworkCount);
+        int galleryCount = galleryRepository.syncCountColumns();
+        log.info("# gallery comment count backfill : {} rows", galleryCount);
+    }
+}
@@ -16,6 +16,8 @@ public enum ExceptionCode {
     REPLY_NOT_FOUND_FROM_COMMENT(400, "해당 답글이 댓글에 존재하지 않습니다."),
     COMMENT_NOT_FOUND_FROM_GALLERY(400, "해당 댓글이 전시관에 존재하지 않습니다." ),
     IMAGE_NOT_FOUND_FROM_REQUEST(400, "요청에 이미지를 넣어주세요."),
+    INVALID_CURSOR(400, "잘못된 커서 값입니다."),
+    TOO_MANY_ARTWORK_IDS(400, "한 번에 조회할 수 있는 작품 수를 초과했습니다."),
     //토큰 관련
     EXPIRED_ACCESS_TOKEN(456, "expired Access Token"),
     TRY_LOGIN(457, "로그인이 필요합니다."),
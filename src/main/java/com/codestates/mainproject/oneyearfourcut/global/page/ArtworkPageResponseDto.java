@@ -0,0 +1,12 @@
+package com.codestates.mainproject.oneyearfourcut.global.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArtworkPageResponseDto<T> {
+    private Long galleryId;
+    private T artworkList;
+    private CursorPageInfo pageInfo;
+}
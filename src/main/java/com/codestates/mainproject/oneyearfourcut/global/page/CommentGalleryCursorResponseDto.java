@@ -0,0 +1,15 @@
+package com.codestates.mainproject.oneyearfourcut.global.page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentGalleryCursorResponseDto<T> {
+    private Long galleryId;
+    private T commentList;
+    private CursorPageInfo pageInfo;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalElements; //withTotal=true 로 요청했을 때만 (카운터 컬럼 값)
+}
@@ -0,0 +1,12 @@
+package com.codestates.mainproject.oneyearfourcut.global.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageInfo {
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; //다음 페이지가 없으면 null
+}
@@ -0,0 +1,11 @@
+package com.codestates.mainproject.oneyearfourcut.global.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FeedCursorResponseDto<T> {
+    private T artworkList;
+    private CursorPageInfo pageInfo;
+}
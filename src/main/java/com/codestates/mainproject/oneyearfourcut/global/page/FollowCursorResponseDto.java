@@ -0,0 +1,12 @@
+package com.codestates.mainproject.oneyearfourcut.global.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FollowCursorResponseDto<T> {
+    private Long galleryId;
+    private T followList;
+    private CursorPageInfo pageInfo;
+}
@@ -0,0 +1,12 @@
+package com.codestates.mainproject.oneyearfourcut.global.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReplyCursorResponseDto<T> {
+    private Long commentId;
+    private T replyList;
+    private CursorPageInfo pageInfo;
+}
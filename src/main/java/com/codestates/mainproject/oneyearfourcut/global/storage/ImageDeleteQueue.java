@@ -0,0 +1,103 @@
+package com.codestates.mainproject.oneyearfourcut.global.storage;
+
+import com.codestates.mainproject.oneyearfourcut.global.storage.entity.ImageDeleteTask;
+import com.codestates.mainproject.oneyearfourcut.global.storage.repository.ImageDeleteTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 삭제 대기열
+ * - 삭제할 경로는 호출한 쪽 트랜잭션 안에서 테이블에 기록만 하고 바로 반환한다.
+ * - 백그라운드 작업이 주기적으로 꺼내 저장소의 일괄 삭제로 처리하고, 실패하면 간격을 늘려가며 재시도한다.
+ * - 삭제는 여러 번 실행해도 결과가 같으므로 중복 처리되어도 문제없다.
+ */
+@Slf4j
+@Service
+public class ImageDeleteQueue {
+    private final ImageDeleteTaskRepository imageDeleteTaskRepository;
+    private final ImageStorage imageStorage;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    public ImageDeleteQueue(ImageDeleteTaskRepository imageDeleteTaskRepository,
+                            ImageStorage imageStorage,
+                            @Value("${image.delete.batch-size:100}") int batchSize,
+                            @Value("${image.delete.max-attempts:8}") int maxAttempts,
+                            @Value("${image.delete.base-backoff:30s}") Duration baseBackoff,
+                            @Value("${image.delete.max-backoff:1h}") Duration maxBackoff) {
+        this.imageDeleteTaskRepository = imageDeleteTaskRepository;
+        this.imageStorage = imageStorage;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    //null 경로는 무시
+    @Transactional
+    public void enqueue(String... paths) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageDeleteTask> tasks = Arrays.stream(paths)
+                .filter(Objects::nonNull)
+                .map(path -> new ImageDeleteTask(path, now))
+                .collect(Collectors.toList());
+        imageDeleteTaskRepository.saveAll(tasks);
+    }
+
+    @Scheduled(fixedDelayString = "${image.delete.interval-millis:10000}",
+            initialDelayString = "${image.delete.interval-millis:10000}")
+    public void drain() {
+        List<ImageDeleteTask> tasks;
+        do {
+            tasks = imageDeleteTaskRepository.findDueTasks(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (!tasks.isEmpty()) {
+                process(tasks);
+            }
+        } while (tasks.size() == batchSize);
+    }
+
+    //원격 호출은 트랜잭션 밖에서 처리하고, 결과만 짧게 반영
+    private void process(List<ImageDeleteTask> tasks) {
+        List<String> paths = tasks.stream()
+                .map(ImageDeleteTask::getPath)
+                .collect(Collectors.toList());
+
+        Set<String> failedPaths;
+        try {
+            failedPaths = new HashSet<>(imageStorage.deleteImages(paths));
+        } catch (RuntimeException e) {
+            log.warn("이미지 일괄 삭제 실패 : {}건", paths.size(), e);
+            failedPaths = new HashSet<>(paths);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageDeleteTask> doneTasks = new ArrayList<>();
+        List<ImageDeleteTask> retryTasks = new ArrayList<>();
+        for (ImageDeleteTask task : tasks) {
+            if (!failedPaths.contains(task.getPath())) {
+                doneTasks.add(task);
+                continue;
+            }
+            task.fail(now, baseBackoff, maxBackoff);
+            if (task.getAttempts() >= maxAttempts) {
+                log.error("이미지 삭제 재시도 횟수 초과, 대기열에서 제외 : {}", task.getPath());
+                doneTasks.add(task);
+            } else {
+                retryTasks.add(task);
+            }
+        }
+        imageDeleteTaskRepository.deleteAllInBatch(doneTasks);
+        imageDeleteTaskRepository.saveAll(retryTasks);
+    }
+}
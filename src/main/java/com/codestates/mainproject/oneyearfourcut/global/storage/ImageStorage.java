@@ -0,0 +1,23 @@
+package com.codestates.mainproject.oneyearfourcut.global.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * 이미지 저장소
+ * storage.type 설정에 따라 S3(기본값) 또는 로컬 디스크 구현체가 등록된다.
+ */
+public interface ImageStorage {
+
+    //파일 형식 검증 후 저장하고 접근 경로를 반환
+    String uploadFile(MultipartFile multipartFile);
+
+    //서버에서 만든 파일(썸네일 등) 저장, 파일명은 확장자만 사용
+    String uploadGeneratedFile(byte[] content, String fileName, String contentType);
+
+    void deleteImage(String fileUrl);
+
+    //여러 개를 한 번에 삭제하고, 삭제하지 못한 경로를 반환
+    List<String> deleteImages(List<String> fileUrls);
+}
@@ -0,0 +1,169 @@
+package com.codestates.mainproject.oneyearfourcut.global.storage;
+
+import com.codestates.mainproject.oneyearfourcut.global.util.ImageUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.*;
+
+/**
+ * 원본 업로드와 함께 목록용 썸네일, 상세용 중간 크기 이미지를 만들어 저장
+ * - 디코딩과 두 변환본 업로드를 한 작업으로 묶어 크기가 제한된 전용 스레드 풀에서 처리한다.
+ *   풀이 가득 차면 요청 스레드에서 대신 처리하지 않고 변환을 건너뛴다.
+ * - 변환본은 부가 데이터이므로 실패해도 업로드는 성공으로 처리하고 원본 경로로 대신한다.
+ * - 시간 안에 끝나지 않은 작업은 포기 처리하고, 포기 후에 올라간 변환본은 삭제 대기열에 넣는다.
+ */
+@Slf4j
+@Service
+public class ImageUploadService {
+    private static final String VARIANT_FILE_NAME = "variant.jpg";
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final ImageStorage imageStorage;
+    private final ImageDeleteQueue imageDeleteQueue;
+    private final ExecutorService imageTaskExecutor;
+    private final int thumbnailSize;
+    private final int mediumSize;
+    private final long timeoutMillis;
+
+    public ImageUploadService(ImageStorage imageStorage,
+                              ImageDeleteQueue imageDeleteQueue,
+                              @Value("${image.variant.pool-size:4}") int poolSize,
+                              @Value("${image.variant.queue-capacity:100}") int queueCapacity,
+                              @Value("${image.variant.thumbnail-size:300}") int thumbnailSize,
+                              @Value("${image.variant.medium-size:1080}") int mediumSize,
+                              @Value("${image.variant.timeout-millis:10000}") long timeoutMillis) {
+        this.imageStorage = imageStorage;
+        this.imageDeleteQueue = imageDeleteQueue;
+        this.imageTaskExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public UploadedImage upload(MultipartFile multipartFile) {
+        //원본 업로드에서 파일 형식 검증까지 처리
+        String imagePath = imageStorage.uploadFile(multipartFile);
+
+        VariantTask task = new VariantTask(multipartFile);
+        Future<?> future;
+        try {
+            future = imageTaskExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변환 대기열 초과, 원본 경로로 대신 : {}", imagePath);
+            return new UploadedImage(imagePath, null, null);
+        }
+        await(future, task);
+        return new UploadedImage(imagePath, task.getMediumPath(), task.getThumbnailPath());
+    }
+
+    //삭제는 대기열에 기록만 하고 백그라운드에서 처리 (트랜잭션 안에서 호출하면 롤백 시 기록되지 않음)
+    public void delete(UploadedImage uploadedImage) {
+        imageDeleteQueue.enqueue(uploadedImage.getPaths().toArray(new String[0]));
+    }
+
+    //원본과 변환본을 함께 삭제 (null 경로는 무시)
+    public void delete(String... paths) {
+        imageDeleteQueue.enqueue(paths);
+    }
+
+    //ImageIO가 읽을 수 없는 형식(heic 등)은 변환하지 않음
+    private BufferedImage readImage(MultipartFile multipartFile) {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return ImageIO.read(inputStream);
+        } catch (IOException e) {
+            log.warn("이미지 변환용 읽기 실패 : {}", multipartFile.getOriginalFilename(), e);
+            return null;
+        }
+    }
+
+    private String uploadVariant(byte[] content) {
+        return imageStorage.uploadGeneratedFile(content, VARIANT_FILE_NAME, VARIANT_CONTENT_TYPE);
+    }
+
+    private void await(Future<?> future, VariantTask task) {
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("이미지 변환 실패", e);
+        }
+        //진행 중인 업로드는 중단되지 않으므로 취소 대신 포기 처리 (이미 올라간 변환본은 삭제)
+        task.abandon();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        imageTaskExecutor.shutdown();
+    }
+
+    //디코딩부터 두 변환본 업로드까지 풀 스레드에서 처리하는 작업
+    private class VariantTask implements Callable<Void> {
+        private final MultipartFile multipartFile;
+        private String mediumPath;
+        private String thumbnailPath;
+        private boolean abandoned;
+
+        private VariantTask(MultipartFile multipartFile) {
+            this.multipartFile = multipartFile;
+        }
+
+        @Override
+        public Void call() throws IOException {
+            if (isAbandoned()) {
+                return null;
+            }
+            BufferedImage source = readImage(multipartFile);
+            if (source == null || isAbandoned()) {
+                return null;
+            }
+            String medium = uploadVariant(ImageUtils.resizeToFit(source, mediumSize));
+            synchronized (this) {
+                if (abandoned) {
+                    delete(medium);
+                    return null;
+                }
+                mediumPath = medium;
+            }
+            String thumbnail = uploadVariant(ImageUtils.cropToSquare(source, thumbnailSize));
+            synchronized (this) {
+                if (abandoned) {
+                    delete(thumbnail);
+                    return null;
+                }
+                thumbnailPath = thumbnail;
+            }
+            return null;
+        }
+
+        //응답에 쓰지 않을 변환본은 삭제 대기열에 넣고, 이후에 끝나는 업로드도 삭제되도록 표시
+        private synchronized void abandon() {
+            abandoned = true;
+            delete(mediumPath, thumbnailPath);
+            mediumPath = null;
+            thumbnailPath = null;
+        }
+
+        private synchronized boolean isAbandoned() {
+            return abandoned;
+        }
+
+        private synchronized String getMediumPath() {
+            return mediumPath;
+        }
+
+        private synchronized String getThumbnailPath() {
+            return thumbnailPath;
+        }
+    }
+}
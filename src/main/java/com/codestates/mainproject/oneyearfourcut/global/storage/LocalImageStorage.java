@@ -0,0 +1,91 @@
+package com.codestates.mainproject.oneyearfourcut.global.storage;
+
+import com.codestates.mainproject.oneyearfourcut.global.util.FileUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 개발, 테스트용 이미지 저장소 (storage.type=local)
+ * storage.local.path 디렉토리에 파일을 저장하고 file: URI를 경로로 사용한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path rootPath;
+
+    public LocalImageStorage(@Value("${storage.local.path:${java.io.tmpdir}/oyfc-images}") String rootPath) {
+        this.rootPath = Paths.get(rootPath).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String uploadFile(MultipartFile multipartFile) {
+        String fileName = FileUtils.createFileName(multipartFile.getOriginalFilename());
+
+        Path target = rootPath.resolve(fileName);
+        try (UploadInputStream inputStream = UploadInputStream.open(multipartFile)) {
+            Files.createDirectories(rootPath);
+            Files.copy(inputStream, target);
+            if (inputStream.getSize() != multipartFile.getSize()) {
+                Files.deleteIfExists(target);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다.");
+            }
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다.");
+        }
+        return target.toUri().toString();
+    }
+
+    @Override
+    public String uploadGeneratedFile(byte[] content, String fileName, String contentType) {
+        Path target = rootPath.resolve(FileUtils.createFileName(fileName));
+        try {
+            Files.createDirectories(rootPath);
+            Files.write(target, content);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다.");
+        }
+        return target.toUri().toString();
+    }
+
+    @Override
+    public void deleteImage(String fileUrl) {
+        String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+        try {
+            Files.deleteIfExists(rootPath.resolve(fileName));
+        } catch (IOException e) {
+            log.warn("로컬 이미지 삭제 실패 : {}", fileUrl, e);
+        }
+    }
+
+    @Override
+    public List<String> deleteImages(List<String> fileUrls) {
+        List<String> failedUrls = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+            try {
+                Files.deleteIfExists(rootPath.resolve(fileName));
+            } catch (IOException e) {
+                failedUrls.add(fileUrl);
+            }
+        }
+        return failedUrls;
+    }
+
+    public Path getRootPath() {
+        return rootPath;
+    }
+}
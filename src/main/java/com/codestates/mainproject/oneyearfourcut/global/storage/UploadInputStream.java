@@ -0,0 +1,134 @@
+package com.codestates.mainproject.oneyearfourcut.global.storage;
+
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import com.codestates.mainproject.oneyearfourcut.global.util.FileUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 업로드 파일을 한 번만 읽는 스트림
+ * - 앞부분(PEEK_SIZE)만 버퍼에 미리 읽어 MIME 타입을 판별한 뒤, 같은 스트림을 그대로 저장소로 흘려보낸다.
+ * - 흘려보내는 동안 읽은 크기와 MD5를 함께 계산하므로 파일 크기와 관계없이 힙 사용량이 일정하다.
+ */
+public class UploadInputStream extends FilterInputStream {
+    static final int PEEK_SIZE = 8 * 1024;
+
+    private final String mimeType;
+    private final MessageDigest digest;
+    private long size;
+
+    private UploadInputStream(InputStream inputStream, String mimeType) {
+        super(inputStream);
+        this.mimeType = mimeType;
+        this.digest = md5();
+    }
+
+    //지원하지 않는 형식이면 스트림을 닫고 UNSUPPORTED_FILE_EXTENSION 예외
+    public static UploadInputStream open(MultipartFile multipartFile) throws IOException {
+        BufferedInputStream inputStream = new BufferedInputStream(multipartFile.getInputStream(), PEEK_SIZE);
+        try {
+            inputStream.mark(PEEK_SIZE);
+            byte[] peek = inputStream.readNBytes(PEEK_SIZE);
+            inputStream.reset();
+
+            String mimeType = FileUtils.detectMimeType(peek);
+            if (!FileUtils.isSupportedImageType(mimeType)) {
+                throw new BusinessLogicException(ExceptionCode.UNSUPPORTED_FILE_EXTENSION);
+            }
+            return new UploadInputStream(inputStream, mimeType);
+        } catch (IOException | RuntimeException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            digest.update((byte) b);
+            size++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = super.read(b, off, len);
+        if (count > 0) {
+            digest.update(b, off, count);
+            size += count;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        //건너뛴 바이트도 체크섬에 포함되어야 하므로 읽어서 버림
+        byte[] buffer = new byte[(int) Math.min(n, PEEK_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (count < 0) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    //재시도용 mark/reset은 체크섬을 어긋나게 하므로 지원하지 않음 (필요하면 호출하는 쪽에서 감싸서 처리)
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    //스트림을 끝까지 읽은 뒤에 호출
+    public String getMd5Hex() {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : cloneDigest().digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private MessageDigest cloneDigest() {
+        try {
+            return (MessageDigest) digest.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
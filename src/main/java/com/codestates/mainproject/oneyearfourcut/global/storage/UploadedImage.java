@@ -0,0 +1,33 @@
+package com.codestates.mainproject.oneyearfourcut.global.storage;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드된 원본과 변환본(중간 크기, 썸네일) 경로
+ * 변환에 실패했거나 변환할 수 없는 형식이면 변환본 경로는 null
+ */
+@Getter
+public class UploadedImage {
+    private final String imagePath;
+    private final String mediumPath;
+    private final String thumbnailPath;
+
+    public UploadedImage(String imagePath, String mediumPath, String thumbnailPath) {
+        this.imagePath = imagePath;
+        this.mediumPath = mediumPath;
+        this.thumbnailPath = thumbnailPath;
+    }
+
+    public List<String> getPaths() {
+        List<String> paths = new ArrayList<>();
+        for (String path : new String[]{imagePath, mediumPath, thumbnailPath}) {
+            if (path != null) {
+                paths.add(path);
+            }
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,48 @@
+package com.codestates.mainproject.oneyearfourcut.global.storage.entity;
+
+import com.codestates.mainproject.oneyearfourcut.global.auditable.Auditable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에서 지워야 할 이미지 (삭제 대기열)
+ * 요청 트랜잭션과 함께 커밋되므로 롤백되면 삭제도 기록되지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_image_delete_task_next_attempt", columnList = "next_attempt_at"))
+public class ImageDeleteTask extends Auditable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long imageDeleteTaskId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String path;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public ImageDeleteTask(String path, LocalDateTime nextAttemptAt) {
+        this.path = path;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    //실패하면 재시도 간격을 두 배씩 늘림 (maxBackoff까지)
+    public void fail(LocalDateTime now, Duration baseBackoff, Duration maxBackoff) {
+        this.attempts++;
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        this.nextAttemptAt = now.plus(backoff);
+    }
+}
@@ -0,0 +1,18 @@
+package com.codestates.mainproject.oneyearfourcut.global.storage.repository;
+
+import com.codestates.mainproject.oneyearfourcut.global.storage.entity.ImageDeleteTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImageDeleteTaskRepository extends JpaRepository<ImageDeleteTask, Long> {
+
+    @Query("SELECT t FROM ImageDeleteTask t WHERE t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt ASC")
+    List<ImageDeleteTask> findDueTasks(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,39 @@
+package com.codestates.mainproject.oneyearfourcut.global.util;
+
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 커서 페이지네이션용 토큰 변환
+ * 정렬 키 값들을 이어붙여 base64url로 인코딩하며, 클라이언트는 토큰 내용을 알 필요 없이 그대로 돌려주면 된다.
+ */
+public class CursorUtils {
+
+    private static final String DELIMITER = "_";
+
+    public static String encode(Object... keys) {
+        String joined = Stream.of(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int keyCount) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = joined.split(DELIMITER);
+            if (keys.length != keyCount) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,26 +1,38 @@
 package com.codestates.mainproject.oneyearfourcut.global.util;
 
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.BusinessLogicException;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
 import org.apache.tika.Tika;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
 
 public class FileUtils {
 
     private static final Tika tika = new Tika();
 
-    public static boolean validFile(MultipartFile inputStream) {
-        try {
+    private static final List<String> typeList = List.of("image/jpeg", "image/jpg", "image/png", "image/heic");
 
-            List<String> typeList = List.of("image/jpeg", "image/jpg", "image/png", "image/heic");
-            String mimeType = tika.detect(inputStream.getInputStream());
-            return typeList.stream().anyMatch(
-                    type -> type.equalsIgnoreCase(mimeType));
-        } catch (IOException e) {
-            return false;
-        }
+    //파일 앞부분(매직 넘버)만으로 MIME 타입 판별
+    public static String detectMimeType(byte[] prefix) {
+        return tika.detect(prefix);
+    }
+
+    public static boolean isSupportedImageType(String mimeType) {
+        return typeList.stream().anyMatch(
+                type -> type.equalsIgnoreCase(mimeType));
     }
 
+    //저장소에 올릴 파일명 (UUID + 원본 확장자)
+    public static String createFileName(String fileName) {
+        return UUID.randomUUID().toString().concat(getFileExtension(fileName));
+    }
 
+    private static String getFileExtension(String fileName) {
+        try {
+            return fileName.substring(fileName.lastIndexOf("."));
+        } catch (StringIndexOutOfBoundsException | NullPointerException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_FILE_TYPE);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package com.codestates.mainproject.oneyearfourcut.global.util;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class ImageUtils {
+
+    //비율을 유지한 채 maxSize 박스 안에 들어오도록 축소 (확대는 하지 않음)
+    public static byte[] resizeToFit(BufferedImage source, int maxSize) throws IOException {
+        double scale = Math.min(1.0, Math.min((double) maxSize / source.getWidth(), (double) maxSize / source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        return toJpeg(draw(source, 0, 0, source.getWidth(), source.getHeight(), width, height));
+    }
+
+    //가운데를 정사각형으로 잘라 size x size 고정 크기로 변환
+    public static byte[] cropToSquare(BufferedImage source, int size) throws IOException {
+        int cropSize = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - cropSize) / 2;
+        int y = (source.getHeight() - cropSize) / 2;
+
+        return toJpeg(draw(source, x, y, cropSize, cropSize, size, size));
+    }
+
+    private static BufferedImage draw(BufferedImage source, int x, int y, int sourceWidth, int sourceHeight,
+                                      int width, int height) {
+        //jpeg는 투명도가 없으므로 흰 배경 위에 그림
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, x, y, x + sourceWidth, y + sourceHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] toJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+}
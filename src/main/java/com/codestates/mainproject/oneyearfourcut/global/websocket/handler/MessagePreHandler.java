@@ -20,11 +20,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
 
+import java.util.regex.Pattern;
+
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class MessagePreHandler implements ChannelInterceptor {
 
+    private static final Pattern PUBLIC_DESTINATION = Pattern.compile("^/sub/galleries/\\d+/activity$");
+
     private final JwtTokenizer jwtTokenizer;
 
     private final Gson gson;
@@ -39,6 +43,10 @@ public class MessagePreHandler implements ChannelInterceptor {
         boolean isVerify = command.equals("CONNECT") || command.equals("SEND") || command.equals("SUBSCRIBE");
         Long senderId = null;
         Jws<Claims> claims = null;
+        // 비회원도 전시관 실시간 활동은 볼 수 있도록 토큰 없는 연결과 전시관 활동 구독은 허용
+        if (isVerify && accessor.getFirstNativeHeader("Authorization") == null && isPublicCommand(accessor)) {
+            return message;
+        }
         // 연결, 메세지 발행, 구독일 때만 토큰 검사
         if (isVerify) {
             String authorizationHeader = accessor.getFirstNativeHeader("Authorization");
@@ -66,5 +74,11 @@ public class MessagePreHandler implements ChannelInterceptor {
         return message;
     }
 
-
+    private boolean isPublicCommand(StompHeaderAccessor accessor) {
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            return true;
+        }
+        return accessor.getCommand() == StompCommand.SUBSCRIBE && accessor.getDestination() != null
+                && PUBLIC_DESTINATION.matcher(accessor.getDestination()).matches();
+    }
 }
@@ -46,3 +46,8 @@ INSERT INTO CHAT_ROOM (chatted_at, last_chat_message) VALUES
 INSERT INTO CHAT_ROOM_MEMBER (member_id, chat_room_id) VALUES
 (1, 1),
 (3, 1);
+
+-- 작품 좋아요, 댓글 수 카운터 컬럼 보정
+UPDATE ARTWORK SET
+    like_count = (SELECT COUNT(*) FROM ARTWORK_LIKE v WHERE v.artwork_id = ARTWORK.artwork_id AND v.status = 'LIKE'),
+    comment_count = (SELECT COUNT(*) FROM COMMENT c WHERE c.artwork_id = ARTWORK.artwork_id);
@@ -0,0 +1,18 @@
+-- 운영 DB(MySQL/MariaDB)에 artwork_like 유니크 제약을 추가하기 전에 한 번 실행해야 하는 마이그레이션
+-- 기존 데이터에 같은 (회원, 작품) 좋아요 행이 여러 개 있으면 제약 생성이 실패하므로 먼저 정리한다.
+-- (자동 실행되지 않음, 배포 전에 직접 실행)
+
+-- 1. (회원, 작품)별로 가장 최근에 만든 행만 남기고 삭제
+DELETE v FROM artwork_like v
+    JOIN artwork_like newer
+        ON newer.member_id = v.member_id
+        AND newer.artwork_id = v.artwork_id
+        AND newer.artwork_like_id > v.artwork_like_id;
+
+-- 2. 지운 행만큼 달라진 좋아요 수를 다시 집계
+UPDATE artwork a
+SET like_count = (SELECT COUNT(*) FROM artwork_like v WHERE v.artwork_id = a.artwork_id AND v.status = 'LIKE');
+
+-- 3. 유니크 제약과 인덱스 생성 (ArtworkLike 엔티티의 @Table 설정과 같음)
+ALTER TABLE artwork_like ADD CONSTRAINT uk_artwork_like_member_artwork UNIQUE (member_id, artwork_id);
+CREATE INDEX idx_artwork_like_artwork_status ON artwork_like (artwork_id, status, member_id);
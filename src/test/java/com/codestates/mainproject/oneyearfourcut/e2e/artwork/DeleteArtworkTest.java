@@ -1,5 +1,6 @@
 package com.codestates.mainproject.oneyearfourcut.e2e.artwork;
 
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeIndexRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
@@ -40,6 +41,8 @@ public class DeleteArtworkTest {
     @Autowired
     private ArtworkLikeRepository artworkLikeRepository;
     @Autowired
+    private ArtworkLikeIndexRepository artworkLikeIndexRepository;
+    @Autowired
     private JwtTokenizer jwtTokenizer;
 
     private Gallery savedGallery;
@@ -110,6 +113,34 @@ public class DeleteArtworkTest {
         Assertions.assertThat(list.size()).isEqualTo(0);
     }
 
+    @DisplayName("좋아요 인덱스는 삭제가 커밋된 뒤에만 비워지고, 실패한 삭제는 적재된 인덱스를 유지한다.")
+    @Test
+    void likeIndexEvictTest() throws Exception {
+        //given
+        long artworkId = savedArtwork.getArtworkId();
+        artworkLikeIndexRepository.getLikeCount(artworkId); //인덱스 적재
+        Member otherMember = memberRepository.save(Member.builder()
+                .nickname("other")
+                .email("other@gmail.com")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .profile("/path1")
+                .build());
+
+        //when
+        mockMvc.perform(delete("/galleries/{gallery-id}/artworks/{artwork-id}", savedGallery.getGalleryId(), artworkId)
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(otherMember)))
+                .andExpect(jsonPath("$.exception").value(ExceptionCode.UNAUTHORIZED.name()));
+        Assertions.assertThat(artworkLikeIndexRepository.findLoadedLikeCounts(List.of(artworkId))).containsKey(artworkId);
+
+        mockMvc.perform(delete("/galleries/{gallery-id}/artworks/{artwork-id}", savedGallery.getGalleryId(), artworkId)
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(artworkMember)))
+                .andExpect(status().isNoContent());
+
+        //then
+        Assertions.assertThat(artworkLikeIndexRepository.findLoadedLikeCounts(List.of(artworkId))).isEmpty();
+    }
+
     @DisplayName("작품 작성자가 아니면 실패한다.")
     @Test
     void authTest() throws Exception {
@@ -14,6 +14,7 @@ import com.codestates.mainproject.oneyearfourcut.domain.member.repository.Member
 import com.codestates.mainproject.oneyearfourcut.global.aws.service.AwsS3Service;
 import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
 import com.google.gson.Gson;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +26,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -191,4 +193,65 @@ public class GetArtworksTest {
         actions.andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
     }
+
+    @DisplayName("size 파라미터로 조회하면, 커서를 따라 다음 페이지가 중복 없이 조회된다.")
+    @Test
+    void findArtworkPageTest() throws Exception {
+        //given
+        for (int i = 1; i < 6; i++) {
+            Artwork artwork = Artwork.builder()
+                    .title("artwork" + i)
+                    .content("content" + i)
+                    .image(image)
+                    .build();
+            artwork.setMember(artworkMember);
+            artwork.setGallery(gallery);
+            artwork.setImagePath("/path" + i);
+            artworkRepository.save(artwork);
+        }
+
+        //when
+        MvcResult firstResult = mockMvc.perform(
+                get("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .param("size", "3")
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(3))
+                .andExpect(jsonPath("$.artworkList[0].title").value("artwork5"))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(true))
+                .andReturn();
+        String nextCursor = JsonPath.read(firstResult.getResponse().getContentAsString(), "$.pageInfo.nextCursor");
+
+        ResultActions actions = mockMvc.perform(
+                get("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .param("size", "3")
+                        .param("cursor", nextCursor)
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(2))
+                .andExpect(jsonPath("$.artworkList[0].title").value("artwork2"))
+                .andExpect(jsonPath("$.artworkList[1].title").value("artwork1"))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.pageInfo.nextCursor").doesNotExist());
+    }
+
+    @DisplayName("잘못된 커서로 조회하면, 400 에러가 발생한다.")
+    @Test
+    void invalidCursorTest() throws Exception {
+        //when
+        ResultActions actions = mockMvc.perform(
+                get("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .param("size", "3")
+                        .param("cursor", "invalid")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //then
+        actions.andExpect(status().isBadRequest());
+    }
 }
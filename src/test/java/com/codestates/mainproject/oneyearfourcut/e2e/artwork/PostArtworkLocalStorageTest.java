@@ -0,0 +1,283 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.artwork;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import com.codestates.mainproject.oneyearfourcut.global.storage.ImageDeleteQueue;
+import com.codestates.mainproject.oneyearfourcut.global.storage.LocalImageStorage;
+import com.codestates.mainproject.oneyearfourcut.global.storage.repository.ImageDeleteTaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * S3 대신 로컬 저장소로 업로드 -> 변환본 생성 -> 저장 흐름을 확인
+ */
+@SpringBootTest(properties = {
+        "storage.type=local",
+        "storage.local.path=${java.io.tmpdir}/oyfc-test-images",
+        "image.delete.interval-millis=3600000" //삭제 대기열은 테스트에서 직접 처리
+})
+@AutoConfigureMockMvc
+public class PostArtworkLocalStorageTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private LocalImageStorage localImageStorage;
+    @Autowired
+    private ImageDeleteQueue imageDeleteQueue;
+    @Autowired
+    private ImageDeleteTaskRepository imageDeleteTaskRepository;
+
+    private Member artworkMember;
+    private Gallery gallery;
+    private String jwt;
+    //png 시그니처로 시작해야 파일 형식 검증을 통과함
+    private MockMultipartFile image = new MockMultipartFile(
+            "image",
+            "image.png",
+            "image/png",
+            new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0, 0, 0, 0});
+
+    @BeforeEach
+    void beforeSetup() {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        gallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+
+        artworkMember = memberRepository.save(Member.builder()
+                .nickname("artwork Writer")
+                .email("artwork@gmail.com")
+                .profile("/path/artwork")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        jwt = jwtTokenizer.testJwtGenerator(artworkMember);
+    }
+
+    @AfterEach
+    void clear() throws IOException {
+        alarmRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+        imageDeleteTaskRepository.deleteAll();
+        FileSystemUtils.deleteRecursively(localImageStorage.getRootPath());
+    }
+
+    @DisplayName("작품을 등록하면 로컬 저장소에 이미지가 저장되고, 저장된 경로가 작품에 기록된다.")
+    @Test
+    void successPostTest() throws Exception {
+        //when
+        mockMvc.perform(
+                multipart("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .file(image)
+                        .param("title", "artwork title")
+                        .param("content", "artwork content")
+                        .header("Authorization", jwt))
+                .andExpect(status().isCreated());
+
+        //then
+        assertThat(countStoredFiles()).isEqualTo(1);
+        assertThat(artworkRepository.findAll())
+                .singleElement()
+                .satisfies(artwork -> assertThat(artwork.getImagePath()).startsWith("file:"));
+    }
+
+    @DisplayName("확장자와 달리 이미지가 아닌 파일을 등록하면, 저장하지 않고 400 에러가 발생한다.")
+    @Test
+    void unsupportedContentTest() throws Exception {
+        //given
+        MockMultipartFile textFile = new MockMultipartFile(
+                "image",
+                "image.png",
+                "image/png",
+                "<<not an image>>".getBytes());
+
+        //when
+        mockMvc.perform(
+                multipart("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .file(textFile)
+                        .param("title", "artwork title")
+                        .param("content", "artwork content")
+                        .header("Authorization", jwt))
+                .andExpect(status().isBadRequest());
+
+        //then
+        assertThat(countStoredFiles()).isZero();
+        assertThat(artworkRepository.count()).isZero();
+    }
+
+    @DisplayName("이미지 업로드 후 DB 저장에 실패하면, 업로드한 이미지가 삭제 대기열을 거쳐 삭제된다.")
+    @Test
+    void orphanCleanupTest() throws Exception {
+        //given
+        //토큰은 유효하지만 회원이 없어서 작품 저장 시 외래키 제약에 걸림
+        memberRepository.delete(artworkMember);
+
+        //when
+        Throwable thrown = catchThrowable(() -> mockMvc.perform(
+                multipart("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .file(image)
+                        .param("title", "artwork title")
+                        .param("content", "artwork content")
+                        .header("Authorization", jwt)));
+
+        //then
+        assertThat(thrown).isNotNull();
+        assertThat(artworkRepository.count()).isZero();
+        assertThat(imageDeleteTaskRepository.count()).isEqualTo(1);
+
+        imageDeleteQueue.drain();
+        assertThat(countStoredFiles()).isZero();
+        assertThat(imageDeleteTaskRepository.count()).isZero();
+    }
+
+    @DisplayName("읽을 수 있는 이미지를 등록하면 썸네일, 중간 크기 변환본이 함께 저장되고 목록에서 썸네일 경로가 조회된다.")
+    @Test
+    void variantTest() throws Exception {
+        //given
+        MockMultipartFile largeImage = new MockMultipartFile(
+                "image",
+                "large.png",
+                "image/png",
+                createPng(1600, 1200));
+
+        //when
+        mockMvc.perform(
+                multipart("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .file(largeImage)
+                        .param("title", "artwork title")
+                        .param("content", "artwork content")
+                        .header("Authorization", jwt))
+                .andExpect(status().isCreated());
+
+        //then
+        assertThat(countStoredFiles()).isEqualTo(3);
+        Artwork savedArtwork = artworkRepository.findAll().get(0);
+        assertThat(savedArtwork.getThumbnailPath()).isNotNull().isNotEqualTo(savedArtwork.getImagePath());
+        assertThat(savedArtwork.getMediumPath()).isNotNull();
+
+        BufferedImage thumbnail = ImageIO.read(Paths.get(URI.create(savedArtwork.getThumbnailPath())).toFile());
+        BufferedImage medium = ImageIO.read(Paths.get(URI.create(savedArtwork.getMediumPath())).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(300);
+        assertThat(thumbnail.getHeight()).isEqualTo(300);
+        assertThat(medium.getWidth()).isEqualTo(1080);
+        assertThat(medium.getHeight()).isEqualTo(810);
+
+        mockMvc.perform(get("/galleries/{gallery-id}/artworks", gallery.getGalleryId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].thumbnailPath").value(savedArtwork.getThumbnailPath()))
+                .andExpect(jsonPath("$.[0].imagePath").value(savedArtwork.getImagePath()));
+    }
+
+    @DisplayName("작품을 삭제하면 원본과 변환본이 삭제 대기열에 기록되고, 대기열 처리 후 저장소에서 삭제된다.")
+    @Test
+    void deleteQueueTest() throws Exception {
+        //given
+        MockMultipartFile largeImage = new MockMultipartFile(
+                "image",
+                "large.png",
+                "image/png",
+                createPng(400, 300));
+        mockMvc.perform(
+                multipart("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .file(largeImage)
+                        .param("title", "artwork title")
+                        .param("content", "artwork content")
+                        .header("Authorization", jwt))
+                .andExpect(status().isCreated());
+        Artwork savedArtwork = artworkRepository.findAll().get(0);
+
+        //when
+        mockMvc.perform(
+                delete("/galleries/{gallery-id}/artworks/{artwork-id}",
+                        gallery.getGalleryId(), savedArtwork.getArtworkId())
+                        .header("Authorization", jwt))
+                .andExpect(status().isNoContent());
+
+        //then
+        //요청 중에는 기록만 하고 저장소는 그대로
+        assertThat(imageDeleteTaskRepository.count()).isEqualTo(3);
+        assertThat(countStoredFiles()).isEqualTo(3);
+
+        imageDeleteQueue.drain();
+        assertThat(imageDeleteTaskRepository.count()).isZero();
+        assertThat(countStoredFiles()).isZero();
+    }
+
+    private byte[] createPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private long countStoredFiles() throws IOException {
+        Path rootPath = localImageStorage.getRootPath();
+        if (!Files.exists(rootPath)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(rootPath)) {
+            return files.count();
+        }
+    }
+}
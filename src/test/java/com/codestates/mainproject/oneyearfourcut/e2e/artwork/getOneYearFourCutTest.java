@@ -2,6 +2,7 @@ package com.codestates.mainproject.oneyearfourcut.e2e.artwork;
 
 import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.ArtworkLike;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
@@ -27,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,6 +46,8 @@ public class getOneYearFourCutTest {
     @Autowired
     private ArtworkLikeRepository artworkLikeRepository;
     @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
     private JwtTokenizer jwtTokenizer;
 
     private Member galleryMember;
@@ -78,6 +82,7 @@ public class getOneYearFourCutTest {
     }
     @AfterEach
     void clear() {
+        alarmRepository.deleteAll();
         artworkLikeRepository.deleteAll();
         artworkRepository.deleteAll();
         galleryRepository.deleteAll();
@@ -164,6 +169,8 @@ public class getOneYearFourCutTest {
                             .build()
             );
         }
+        //좋아요를 repository로 직접 저장했으므로 카운터 컬럼 보정
+        artworkRepository.syncCountColumns();
 
         //when
         ResultActions actions = mockMvc.perform(
@@ -180,6 +187,51 @@ public class getOneYearFourCutTest {
                 .andExpect(jsonPath("$.[3].artworkId").value(savedArtworkList.get(3).getArtworkId()));
     }
 
+    @DisplayName("랭킹이 조회된 이후 좋아요를 누르면, 다시 조회할 때 바뀐 순위로 조회된다.")
+    @Test
+    void likeAfterLoadTest() throws Exception {
+        //given
+        ArrayList<Artwork> artworkList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Artwork artwork = Artwork.builder()
+                    .title("artwork title" + i)
+                    .content("artwork content" + i)
+                    .build();
+            artwork.setImagePath("/path/rank" + i);
+            artwork.setMember(artworkMember);
+            artwork.setGallery(savedGallery);
+
+            artworkList.add(artwork);
+        }
+        List<Artwork> savedArtworkList = artworkRepository.saveAll(artworkList);
+        String jwt = jwtTokenizer.testJwtGenerator(galleryMember);
+
+        //좋아요가 모두 0이므로 최신 등록 순 4개가 랭킹으로 적재됨
+        mockMvc.perform(get("/galleries/{gallery-id}/artworks/like", savedGallery.getGalleryId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].artworkId").value(savedArtworkList.get(4).getArtworkId()));
+
+        //when
+        //랭킹에 없던 가장 오래된 작품에 좋아요
+        mockMvc.perform(put("/galleries/{gallery-id}/artworks/{artwork-id}/likes",
+                        savedGallery.getGalleryId(), savedArtworkList.get(0).getArtworkId())
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk());
+
+        ResultActions actions = mockMvc.perform(
+                get("/galleries/{gallery-id}/artworks/like", savedGallery.getGalleryId())
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$.[0].artworkId").value(savedArtworkList.get(0).getArtworkId()))
+                .andExpect(jsonPath("$.[0].likeCount").value(1))
+                .andExpect(jsonPath("$.[1].artworkId").value(savedArtworkList.get(4).getArtworkId()))
+                .andExpect(jsonPath("$.[3].artworkId").value(savedArtworkList.get(2).getArtworkId()));
+    }
+
     @DisplayName("작품이 없으면 빈 배열을 반환함")
     @Test
     void name() throws Exception {
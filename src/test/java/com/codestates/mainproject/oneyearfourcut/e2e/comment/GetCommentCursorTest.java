@@ -0,0 +1,197 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.comment;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentRequestDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.CommentRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import com.google.gson.Gson;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class GetCommentCursorTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private Gson gson;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+
+    private Member commentMember;
+    private Gallery savedGallery;
+    private Artwork savedArtwork;
+    private final List<Long> commentIds = new ArrayList<>(); //등록 순서
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        savedGallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+        Artwork artwork = Artwork.builder()
+                .title("artwork title")
+                .content("artwork content")
+                .build();
+        artwork.setImagePath("/path/artwork");
+        artwork.setGallery(savedGallery);
+        artwork.setMember(galleryMember);
+        savedArtwork = artworkRepository.save(artwork);
+        commentMember = memberRepository.save(Member.builder()
+                .nickname("comment Writer")
+                .email("comment@gmail.com")
+                .profile("/path/comment")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+
+        //전시관 댓글 3개, 작품 댓글 2개를 번갈아 등록 (카운터도 함께 증가)
+        postComment("/galleries/{gallery-id}/comments", savedGallery.getGalleryId());
+        postComment("/galleries/{gallery-id}/artworks/{artwork-id}/comments",
+                savedGallery.getGalleryId(), savedArtwork.getArtworkId());
+        postComment("/galleries/{gallery-id}/comments", savedGallery.getGalleryId());
+        postComment("/galleries/{gallery-id}/artworks/{artwork-id}/comments",
+                savedGallery.getGalleryId(), savedArtwork.getArtworkId());
+        postComment("/galleries/{gallery-id}/comments", savedGallery.getGalleryId());
+    }
+
+    @AfterEach
+    void clear() {
+        alarmRepository.deleteAll();
+        commentRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+        commentIds.clear();
+    }
+
+    @DisplayName("커서로 끝까지 이어서 조회하면 모든 댓글이 최신순으로 한 번씩 조회되고, 전체 개수는 요청할 때만 포함된다.")
+    @Test
+    void galleryCursorTest() throws Exception {
+        //when
+        String firstPage = mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("size", "2")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentList.length()").value(2))
+                .andExpect(jsonPath("$.commentList[0].commentId").value(commentIds.get(4)))
+                .andExpect(jsonPath("$.commentList[1].commentId").value(commentIds.get(3)))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andReturn().getResponse().getContentAsString();
+
+        String secondPage = mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("size", "2")
+                        .param("cursor", nextCursor(firstPage)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentList[0].commentId").value(commentIds.get(2)))
+                .andExpect(jsonPath("$.commentList[1].commentId").value(commentIds.get(1)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        //then
+        mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("size", "2")
+                        .param("cursor", nextCursor(secondPage)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentList.length()").value(1))
+                .andExpect(jsonPath("$.commentList[0].commentId").value(commentIds.get(0)))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.pageInfo.nextCursor").value(nullValue()));
+    }
+
+    @DisplayName("작품 댓글도 커서로 조회되고, 댓글을 지우면 카운터 기반 전체 개수도 줄어든다.")
+    @Test
+    void artworkCursorTest() throws Exception {
+        //given
+        mockMvc.perform(delete("/galleries/{gallery-id}/comments/{comment-id}",
+                        savedGallery.getGalleryId(), commentIds.get(1))
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(commentMember)))
+                .andExpect(status().isNoContent());
+
+        //when, then
+        mockMvc.perform(get("/galleries/{gallery-id}/artworks/{artwork-id}/comments",
+                        savedGallery.getGalleryId(), savedArtwork.getArtworkId())
+                        .param("size", "10")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentList.length()").value(1))
+                .andExpect(jsonPath("$.commentList[0].commentId").value(commentIds.get(3)))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("size", "10")
+                        .param("withTotal", "true"))
+                .andExpect(jsonPath("$.totalElements").value(4));
+    }
+
+    @DisplayName("잘못된 커서로 조회하면 실패한다.")
+    @Test
+    void invalidCursorTest() throws Exception {
+        mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("size", "2")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(jsonPath("$.exception").value(ExceptionCode.INVALID_CURSOR.name()));
+    }
+
+    private void postComment(String url, Object... pathVariables) throws Exception {
+        String response = mockMvc.perform(post(url, pathVariables)
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(commentMember))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(gson.toJson(CommentRequestDto.builder().content("comment content").build())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        commentIds.add(((Number) JsonPath.read(response, "$.commentList.commentId")).longValue());
+    }
+
+    private String nextCursor(String response) {
+        return JsonPath.read(response, "$.pageInfo.nextCursor");
+    }
+}
@@ -0,0 +1,182 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.comment;
+
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.ReplyPreviewRow;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Reply;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.CommentRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.ReplyPreviewRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.ReplyRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.codestates.mainproject.oneyearfourcut.global.util.QueryCountUtils.getStatistics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 댓글 목록에 답글 수와 최신 답글이 함께 조회되는지 확인 (답글 조회는 댓글 수와 관계없이 한 번)
+ */
+@SpringBootTest
+@ActiveProfiles("query-count")
+@AutoConfigureMockMvc
+public class GetCommentReplyPreviewTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ReplyRepository replyRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Gallery savedGallery;
+
+    @BeforeEach
+    void setUp() {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        savedGallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+
+        //댓글 3개 중 앞의 두 댓글에만 답글 (0번 댓글 3개, 1번 댓글 1개)
+        for (int i = 0; i < 3; i++) {
+            Comment comment = commentRepository.save(Comment.builder()
+                    .content("comment" + i)
+                    .member(galleryMember)
+                    .gallery(savedGallery)
+                    .build());
+            int replySize = i == 0 ? 3 : i == 1 ? 1 : 0;
+            for (int j = 0; j < replySize; j++) {
+                Member replyMember = memberRepository.save(Member.builder()
+                        .nickname("reply" + i + "-" + j)
+                        .email("reply" + i + "-" + j + "@gmail.com")
+                        .profile("/path/reply")
+                        .role(Role.USER)
+                        .status(MemberStatus.ACTIVE)
+                        .build());
+                replyRepository.save(Reply.builder()
+                        .content("reply content" + j)
+                        .comment(comment)
+                        .member(replyMember)
+                        .build());
+            }
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        replyRepository.deleteAll();
+        commentRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("replyPreview를 주면 댓글마다 답글 수와 최신 답글이 함께 조회되고, 답글은 한 번의 SQL로 조회된다.")
+    @Test
+    void replyPreviewTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("size", "10")
+                        .param("replyPreview", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentList.length()").value(3))
+                .andExpect(jsonPath("$.commentList[0].content").value("comment2"))
+                .andExpect(jsonPath("$.commentList[0].replyCount").value(0))
+                .andExpect(jsonPath("$.commentList[0].replyList.length()").value(0))
+                .andExpect(jsonPath("$.commentList[1].replyCount").value(1))
+                .andExpect(jsonPath("$.commentList[1].replyList[0].nickname").value("reply1-0"))
+                .andExpect(jsonPath("$.commentList[2].replyCount").value(3))
+                .andExpect(jsonPath("$.commentList[2].replyList.length()").value(2))
+                .andExpect(jsonPath("$.commentList[2].replyList[0].content").value("reply content2"))
+                .andExpect(jsonPath("$.commentList[2].replyList[1].content").value("reply content1"));
+
+        //then
+        //전시관 확인, 댓글 조회, 답글 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @DisplayName("replyPreview가 없으면 답글을 조회하지 않고 응답에도 답글 필드가 없다.")
+    @Test
+    void withoutReplyPreviewTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentList.length()").value(3))
+                .andExpect(jsonPath("$.commentList[2].replyCount").doesNotExist())
+                .andExpect(jsonPath("$.commentList[2].replyList").doesNotExist());
+
+        //then
+        //전시관 확인, 댓글 조회 (첫 페이지가 다 차지 않아 개수 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("윈도우 함수를 쓰지 않는 조회(MySQL 8.0 미만용)도 윈도우 함수 조회와 같은 결과를 반환한다.")
+    @Test
+    void withoutWindowFunctionTest() {
+        //given
+        List<Long> commentIds = commentRepository.findAll().stream()
+                .map(Comment::getCommentId)
+                .collect(Collectors.toList());
+
+        //when
+        List<ReplyPreviewRow> windowRows =
+                new ReplyPreviewRepository(replyRepository, jdbcTemplate, true).findReplyPreviewList(commentIds, 2);
+        List<ReplyPreviewRow> unionRows =
+                new ReplyPreviewRepository(replyRepository, jdbcTemplate, false).findReplyPreviewList(commentIds, 2);
+
+        //then
+        assertThat(unionRows).hasSize(3);
+        assertThat(unionRows)
+                .extracting(ReplyPreviewRow::getCommentId, ReplyPreviewRow::getReplyId,
+                        ReplyPreviewRow::getNickname, ReplyPreviewRow::getReplyCount)
+                .containsExactlyElementsOf(windowRows.stream()
+                        .map(row -> tuple(row.getCommentId(), row.getReplyId(),
+                                row.getNickname(), row.getReplyCount()))
+                        .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,146 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.comment;
+
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.CommentRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static com.codestates.mainproject.oneyearfourcut.global.util.QueryCountUtils.getStatistics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 전시관 댓글 목록이 댓글 수, 작성자 수와 관계없이 정해진 수의 SQL로 조회되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("query-count")
+@AutoConfigureMockMvc
+public class GetGalleryCommentQueryCountTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Gallery savedGallery;
+
+    @BeforeEach
+    void setUp() {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        savedGallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+
+        //작성자, 작품이 모두 다른 댓글 (작품 댓글과 전시관 댓글을 번갈아)
+        for (int i = 0; i < 11; i++) {   //한 페이지(10개)보다 많게
+            Member commentMember = memberRepository.save(Member.builder()
+                    .nickname("comment" + i)
+                    .email("comment" + i + "@gmail.com")
+                    .profile("/path/comment")
+                    .role(Role.USER)
+                    .status(MemberStatus.ACTIVE)
+                    .build());
+            Artwork artwork = null;
+            if (i % 2 == 0) {
+                artwork = Artwork.builder()
+                        .title("artwork title")
+                        .content("artwork content")
+                        .build();
+                artwork.setImagePath("/path/artwork" + i);
+                artwork.setGallery(savedGallery);
+                artwork.setMember(commentMember);
+                artwork = artworkRepository.save(artwork);
+            }
+            commentRepository.save(Comment.builder()
+                    .content("comment content")
+                    .member(commentMember)
+                    .gallery(savedGallery)
+                    .artwork(artwork)
+                    .build());
+        }
+        galleryRepository.syncCountColumns(); //저장소로 바로 넣은 댓글 수를 카운터에 반영
+    }
+
+    @AfterEach
+    void clear() {
+        commentRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("커서 페이지는 전시관 확인과 댓글 조회, SQL 두 번으로 조회된다.")
+    @Test
+    void cursorPageQueryCountTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("size", "10")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentList.length()").value(10))
+                .andExpect(jsonPath("$.commentList[0].nickname").value("comment10"))
+                .andExpect(jsonPath("$.commentList[0].imagePath").value("/path/artwork10"))
+                .andExpect(jsonPath("$.commentList[1].nickname").value("comment9"))
+                .andExpect(jsonPath("$.totalElements").value(11));
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("페이지 번호 조회는 전시관 확인, 댓글 조회, 개수 조회 SQL 세 번으로 조회된다.")
+    @Test
+    void pageQueryCountTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        mockMvc.perform(get("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentList.length()").value(10))
+                .andExpect(jsonPath("$.pageInfo.totalElements").value(11));
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
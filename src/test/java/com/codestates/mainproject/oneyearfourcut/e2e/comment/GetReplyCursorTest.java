@@ -0,0 +1,147 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.comment;
+
+import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Reply;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.CommentRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.ReplyRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static com.codestates.mainproject.oneyearfourcut.global.util.QueryCountUtils.getStatistics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 답글 목록이 커서 기반으로 나뉘어 조회되고, 답글이 없으면 빈 페이지가 조회되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("query-count")
+@AutoConfigureMockMvc
+public class GetReplyCursorTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ReplyRepository replyRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Comment savedComment;
+    private Comment emptyComment;
+
+    @BeforeEach
+    void setUp() {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        Gallery savedGallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+        savedComment = commentRepository.save(Comment.builder()
+                .content("comment content")
+                .member(galleryMember)
+                .gallery(savedGallery)
+                .build());
+        emptyComment = commentRepository.save(Comment.builder()
+                .content("empty comment")
+                .member(galleryMember)
+                .gallery(savedGallery)
+                .build());
+
+        //작성자가 모두 다른 답글 5개
+        for (int i = 0; i < 5; i++) {
+            Member replyMember = memberRepository.save(Member.builder()
+                    .nickname("reply" + i)
+                    .email("reply" + i + "@gmail.com")
+                    .profile("/path/reply")
+                    .role(Role.USER)
+                    .status(MemberStatus.ACTIVE)
+                    .build());
+            replyRepository.save(Reply.builder()
+                    .content("reply content" + i)
+                    .comment(savedComment)
+                    .member(replyMember)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        replyRepository.deleteAll();
+        commentRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("답글은 최신순으로 size개씩 조회되고, 페이지마다 댓글 확인과 답글 조회 SQL 두 번으로 조회된다.")
+    @Test
+    void replyCursorTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        String firstPage = mockMvc.perform(get("/galleries/comments/{comment-id}/replies", savedComment.getCommentId())
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replyList.length()").value(3))
+                .andExpect(jsonPath("$.replyList[0].content").value("reply content4"))
+                .andExpect(jsonPath("$.replyList[0].nickname").value("reply4"))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        String nextCursor = JsonPath.read(firstPage, "$.pageInfo.nextCursor");
+        mockMvc.perform(get("/galleries/comments/{comment-id}/replies", savedComment.getCommentId())
+                        .param("cursor", nextCursor)
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replyList.length()").value(2))
+                .andExpect(jsonPath("$.replyList[0].content").value("reply content1"))
+                .andExpect(jsonPath("$.replyList[1].content").value("reply content0"))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.pageInfo.nextCursor").value(nullValue()));
+    }
+
+    @DisplayName("답글이 없는 댓글은 빈 목록이 정상 응답으로 조회된다.")
+    @Test
+    void emptyReplyTest() throws Exception {
+        mockMvc.perform(get("/galleries/comments/{comment-id}/replies", emptyComment.getCommentId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentId").value(emptyComment.getCommentId()))
+                .andExpect(jsonPath("$.replyList.length()").value(0))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(false));
+    }
+}
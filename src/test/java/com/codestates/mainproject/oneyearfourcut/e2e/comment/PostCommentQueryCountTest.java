@@ -0,0 +1,200 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.comment;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentRequestDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.entity.Comment;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.CommentRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.ReplyRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import com.google.gson.Gson;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static com.codestates.mainproject.oneyearfourcut.global.util.QueryCountUtils.getStatistics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 댓글, 답글 작성이 엔티티를 읽지 않고 정해진 수의 SQL로 처리되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("query-count")
+@AutoConfigureMockMvc
+public class PostCommentQueryCountTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private Gson gson;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ReplyRepository replyRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member commentMember;
+    private Gallery savedGallery;
+    private Artwork savedArtwork;
+    private String body;
+
+    @BeforeEach
+    void setUp() {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        savedGallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+        Member artworkMember = memberRepository.save(Member.builder()
+                .nickname("artwork Writer")
+                .email("artwork@gmail.com")
+                .profile("/path/artwork")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        Artwork artwork = Artwork.builder()
+                .title("artwork title")
+                .content("artwork content")
+                .build();
+        artwork.setImagePath("/path/artwork");
+        artwork.setGallery(savedGallery);
+        artwork.setMember(artworkMember);
+        savedArtwork = artworkRepository.save(artwork);
+
+        commentMember = memberRepository.save(Member.builder()
+                .nickname("comment Writer")
+                .email("comment@gmail.com")
+                .profile("/path/comment")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        body = gson.toJson(CommentRequestDto.builder()
+                .content("comment content")
+                .build());
+    }
+
+    @AfterEach
+    void clear() {
+        alarmRepository.deleteAll();
+        replyRepository.deleteAll();
+        commentRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("전시관 댓글은 대상 조회, 댓글 저장, 댓글 수 갱신, 알림 저장 SQL 네 번으로 작성된다.")
+    @Test
+    void galleryCommentQueryCountTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        mockMvc.perform(post("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(commentMember))
+                        .content(body)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.commentList.memberId").value(commentMember.getMemberId()))
+                .andExpect(jsonPath("$.commentList.nickname").value("comment Writer"));
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(galleryRepository.findById(savedGallery.getGalleryId()).get().getCommentCount()).isEqualTo(1);
+    }
+
+    @DisplayName("작품 댓글은 대상 조회 한 번으로 전시관 주인과 작품 작성자를 함께 확인하고 두 사람에게 알림을 저장한다.")
+    @Test
+    void artworkCommentQueryCountTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        mockMvc.perform(post("/galleries/{gallery-id}/artworks/{artwork-id}/comments",
+                        savedGallery.getGalleryId(), savedArtwork.getArtworkId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(commentMember))
+                        .content(body)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.commentList.nickname").value("comment Writer"));
+
+        //then
+        //대상 조회, 댓글 저장, 작품/전시관 댓글 수 갱신, 알림 두 건 저장
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(alarmRepository.count()).isEqualTo(2);
+        assertThat(artworkRepository.findById(savedArtwork.getArtworkId()).get().getCommentCount()).isEqualTo(1);
+    }
+
+    @DisplayName("답글은 대상 조회, 답글 저장, 알림 저장 SQL 세 번으로 작성된다.")
+    @Test
+    void replyQueryCountTest() throws Exception {
+        //given
+        Comment comment = commentRepository.save(Comment.builder()
+                .content("comment content")
+                .member(commentMember)
+                .gallery(savedGallery)
+                .artwork(savedArtwork)
+                .build());
+        Member replyMember = memberRepository.save(Member.builder()
+                .nickname("reply Writer")
+                .email("reply@gmail.com")
+                .profile("/path/reply")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        mockMvc.perform(post("/galleries/comments/{comment-id}/replies", comment.getCommentId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(replyMember))
+                        .content(body)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.replyList.nickname").value("reply Writer"));
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(alarmRepository.findAll())
+                .singleElement()
+                .satisfies(alarm -> assertThat(alarm.getMember().getMemberId()).isEqualTo(commentMember.getMemberId()));
+    }
+}
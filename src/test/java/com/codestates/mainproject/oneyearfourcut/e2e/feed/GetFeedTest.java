@@ -0,0 +1,312 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.feed;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.feed.repository.FeedRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.feed.repository.FeedTimelineRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowGraphRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.aws.service.AwsS3Service;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import com.jayway.jsonpath.JsonPath;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+
+import static com.codestates.mainproject.oneyearfourcut.global.util.QueryCountUtils.getStatistics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 작품 등록 시 팔로워 피드에 들어가고(팔로워가 많은 회원은 조회할 때 합쳐서), 피드가 최신순 커서 페이지로 조회되는지 확인
+ */
+@SpringBootTest(properties = "feed.fan-out.max-followers=1") //팔로워가 두 명인 전시관은 fan-out-on-read
+@ActiveProfiles("query-count")
+@AutoConfigureMockMvc
+public class GetFeedTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private FollowGraphRepository followGraphRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private FeedTimelineRepository feedTimelineRepository;
+    @MockBean
+    private AwsS3Service awsS3Service;
+    @SpyBean
+    private FeedRepository feedRepository;
+
+    private Member smallMember;     //팔로워 한 명 (fan-out-on-write)
+    private Member largeMember;     //팔로워 두 명 (fan-out-on-read)
+    private Member feedMember;
+    private Member otherMember;
+    private Gallery smallGallery;
+    private Gallery largeGallery;
+    private MockMultipartFile image = new MockMultipartFile(
+            "image",
+            "image.png",
+            "image/png",
+            "<<image.png>>".getBytes());
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smallMember = saveMember("small");
+        largeMember = saveMember("large");
+        feedMember = saveMember("feed");
+        otherMember = saveMember("other");
+        smallGallery = saveGallery(smallMember);
+        largeGallery = saveGallery(largeMember);
+
+        follow(feedMember, smallGallery);
+        follow(feedMember, largeGallery);
+        follow(otherMember, largeGallery);
+    }
+
+    @AfterEach
+    void clear() {
+        alarmRepository.deleteAll();
+        artworkRepository.deleteAll();
+        followRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+        followGraphRepository.load();
+    }
+
+    @DisplayName("팔로우 한 전시관의 새 작품이 최신순으로 size개씩 조회되고, 적재된 피드는 응답 조회 SQL 한 번으로 조회된다.")
+    @Test
+    void feedTest() throws Exception {
+        //given
+        getFeed(null, 2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(0)); //타임라인 적재
+        postArtwork(smallMember, smallGallery, "small first");
+        postArtwork(largeMember, largeGallery, "large first");
+        postArtwork(smallMember, smallGallery, "small second");
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        String firstPage = getFeed(null, 2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(2))
+                .andExpect(jsonPath("$.artworkList[0].title").value("small second"))
+                .andExpect(jsonPath("$.artworkList[0].galleryId").value(smallGallery.getGalleryId()))
+                .andExpect(jsonPath("$.artworkList[1].title").value("large first"))
+                .andExpect(jsonPath("$.artworkList[1].galleryTitle").value("large gallery"))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        getFeed(JsonPath.read(firstPage, "$.pageInfo.nextCursor"), 2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(1))
+                .andExpect(jsonPath("$.artworkList[0].title").value("small first"))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.pageInfo.nextCursor").value(nullValue()));
+    }
+
+    @DisplayName("언팔로우 하면 피드를 다시 적재해서 그 전시관의 작품이 빠진다.")
+    @Test
+    void unfollowTest() throws Exception {
+        //given
+        postArtwork(smallMember, smallGallery, "small first");
+        postArtwork(largeMember, largeGallery, "large first");
+        getFeed(null, 20)
+                .andExpect(jsonPath("$.artworkList.length()").value(2));
+
+        //when
+        mockMvc.perform(delete("/galleries/{gallery-id}/follows", smallGallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(feedMember)))
+                .andExpect(status().isNoContent());
+
+        //then
+        getFeed(null, 20)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(1))
+                .andExpect(jsonPath("$.artworkList[0].title").value("large first"));
+    }
+
+    @DisplayName("타임라인을 적재하는 도중 다른 회원의 작품 등록이 있어도 적재한 타임라인은 캐시된다.")
+    @Test
+    void loadWithOtherActivityTest() throws Exception {
+        //given
+        postArtwork(smallMember, smallGallery, "small first");
+        List<Long> timelineArtworkIds = List.of(artworkRepository.findAll().get(0).getArtworkId());
+        Member strangerMember = saveMember("stranger");
+        Member strangerFollower = saveMember("stranger follower");
+        followGraphRepository.addFollow(strangerFollower.getMemberId(), strangerMember.getMemberId());
+        //적재 조회 도중 팔로우와 상관없는 회원의 작품 등록 (조회 결과는 DB와 같은 값)
+        doAnswer(invocation -> {
+            feedTimelineRepository.addArtwork(strangerMember.getMemberId(), Long.MAX_VALUE);
+            return timelineArtworkIds;
+        }).when(feedRepository).findTimelineArtworkIds(anyLong(), any(), any());
+        clearInvocations(feedRepository);   //다른 테스트의 적재 호출 제외
+        getFeed(null, 20)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(1));
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        getFeed(null, 20)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList[0].title").value("small first"));
+
+        //then
+        //타임라인을 다시 적재하지 않고 응답 조회 SQL 한 번
+        verify(feedRepository, times(1)).findTimelineArtworkIds(anyLong(), any(), any());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("삭제된 작품은 적재된 피드와 주인별 목록에서 빠져서 페이지가 비지 않는다.")
+    @Test
+    void deleteArtworkTest() throws Exception {
+        //given
+        getFeed(null, 2)
+                .andExpect(status().isOk()); //타임라인 적재
+        postArtwork(smallMember, smallGallery, "small first");
+        postArtwork(largeMember, largeGallery, "large first");
+        postArtwork(smallMember, smallGallery, "small second");
+
+        //when
+        deleteArtwork(smallMember, smallGallery, "small second");
+        deleteArtwork(largeMember, largeGallery, "large first");
+
+        //then
+        getFeed(null, 2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(1))
+                .andExpect(jsonPath("$.artworkList[0].title").value("small first"))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(false));
+    }
+
+    @DisplayName("언팔로우로 팔로워가 기준 이하로 줄면 주인별 목록을 팔로워 타임라인에 합치고 지운다.")
+    @Test
+    void dropOutboxTest() throws Exception {
+        //given
+        postArtwork(largeMember, largeGallery, "large first");
+        //적재 결과를 비워서 주인별 목록에만 있는 작품이 타임라인에 합쳐지는지 확인
+        doReturn(List.of()).when(feedRepository).findTimelineArtworkIds(anyLong(), any(), any());
+        getFeed(null, 20)
+                .andExpect(jsonPath("$.artworkList.length()").value(1));
+
+        //when
+        mockMvc.perform(delete("/galleries/{gallery-id}/follows", largeGallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(otherMember)))
+                .andExpect(status().isNoContent());
+
+        //then
+        assertThat((Map<Long, ?>) ReflectionTestUtils.getField(feedTimelineRepository, "outboxes"))
+                .doesNotContainKey(largeMember.getMemberId());
+        postArtwork(largeMember, largeGallery, "large second");
+        getFeed(null, 20)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.artworkList.length()").value(2))
+                .andExpect(jsonPath("$.artworkList[0].title").value("large second"))
+                .andExpect(jsonPath("$.artworkList[1].title").value("large first"));
+    }
+
+    private ResultActions getFeed(String cursor, int size) throws Exception {
+        var request = get("/members/me/feed")
+                .header("Authorization", jwtTokenizer.testJwtGenerator(feedMember))
+                .param("size", String.valueOf(size));
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private void postArtwork(Member member, Gallery gallery, String title) throws Exception {
+        given(awsS3Service.uploadFile(any())).willReturn("/savedPath/" + title); //이미지 경로는 작품마다 달라야 함
+        mockMvc.perform(multipart("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .file(image)
+                        .param("title", title)
+                        .param("content", "artwork content")
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(member)))
+                .andExpect(status().isCreated());
+    }
+
+    private void deleteArtwork(Member member, Gallery gallery, String title) throws Exception {
+        long artworkId = artworkRepository.findAll().stream()
+                .filter(artwork -> artwork.getTitle().equals(title))
+                .findFirst().orElseThrow()
+                .getArtworkId();
+        mockMvc.perform(delete("/galleries/{gallery-id}/artworks/{artwork-id}", gallery.getGalleryId(), artworkId)
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(member)))
+                .andExpect(status().isNoContent());
+    }
+
+    private void follow(Member member, Gallery gallery) throws Exception {
+        mockMvc.perform(post("/galleries/{gallery-id}/follows", gallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(member)))
+                .andExpect(status().isCreated());
+    }
+
+    private Member saveMember(String name) {
+        return memberRepository.save(Member.builder()
+                .nickname(name)
+                .email(name + "@gmail.com")
+                .profile("/path/" + name)
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+    }
+
+    private Gallery saveGallery(Member member) {
+        return galleryRepository.save(Gallery.builder()
+                .title(member.getNickname() + " gallery")
+                .content("gallery content")
+                .member(member)
+                .status(GalleryStatus.OPEN)
+                .build());
+    }
+}
@@ -0,0 +1,174 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.follow;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryRequestDto;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 팔로우, 언팔로우, 팔로워 삭제 시 전시관의 팔로잉, 팔로워 카운터 컬럼이 같이 갱신되는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class FollowCountTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private Gson gson;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+
+    private Member ownerMember;
+    private Member followMember;
+    private Gallery ownerGallery;
+    private Gallery followGallery;
+
+    @BeforeEach
+    void setUp() {
+        ownerMember = saveMember("owner");
+        followMember = saveMember("follow");
+        ownerGallery = saveGallery(ownerMember);
+        followGallery = saveGallery(followMember);
+    }
+
+    @AfterEach
+    void clear() {
+        alarmRepository.deleteAll();
+        followRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("팔로우 하면 대상 전시관의 팔로워 수와 팔로우 한 회원 전시관의 팔로잉 수가 증가하고, 언팔로우 하면 감소한다.")
+    @Test
+    void followAndUnfollowTest() throws Exception {
+        //when
+        follow(followMember, ownerGallery);
+
+        //then
+        mockMvc.perform(get("/galleries/{gallery-id}", ownerGallery.getGalleryId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.followerCount").value(1))
+                .andExpect(jsonPath("$.followingCount").value(0));
+        mockMvc.perform(get("/galleries/{gallery-id}", followGallery.getGalleryId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.followerCount").value(0))
+                .andExpect(jsonPath("$.followingCount").value(1));
+
+        //when
+        mockMvc.perform(delete("/galleries/{gallery-id}/follows", ownerGallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(followMember)))
+                .andExpect(status().isNoContent());
+
+        //then
+        assertCounts(ownerGallery, 0, 0);
+        assertCounts(followGallery, 0, 0);
+    }
+
+    @DisplayName("맞팔로우 상태에서 팔로워를 삭제하면 삭제된 팔로우만큼만 감소한다.")
+    @Test
+    void deleteFollowerTest() throws Exception {
+        //given
+        follow(followMember, ownerGallery);
+        follow(ownerMember, followGallery);
+        assertCounts(ownerGallery, 1, 1);
+        assertCounts(followGallery, 1, 1);
+        Long followId = followRepository.findByMemberAndGallery(followMember, ownerGallery).get().getFollowId();
+
+        //when
+        mockMvc.perform(delete("/galleries/me/followers/{follow-id}", followId)
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(ownerMember)))
+                .andExpect(status().isNoContent());
+
+        //then
+        assertCounts(ownerGallery, 1, 0);
+        assertCounts(followGallery, 0, 1);
+    }
+
+    @DisplayName("팔로우 중인 회원이 새로 연 전시관은 팔로잉 수를 이어받는다.")
+    @Test
+    void createGalleryFollowingCountTest() throws Exception {
+        //given
+        Member newMember = saveMember("new");
+        follow(newMember, ownerGallery);
+        String body = gson.toJson(GalleryRequestDto.builder()
+                .title("new title")
+                .content("new content")
+                .build());
+
+        //when
+        mockMvc.perform(post("/galleries")
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(newMember))
+                        .content(body)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+
+        //then
+        Gallery newGallery = galleryRepository.findByMember_MemberIdAndStatus(newMember.getMemberId(), GalleryStatus.OPEN).get();
+        assertCounts(newGallery, 1, 0);
+        assertCounts(ownerGallery, 0, 1);
+    }
+
+    private void follow(Member member, Gallery gallery) throws Exception {
+        mockMvc.perform(post("/galleries/{gallery-id}/follows", gallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(member)))
+                .andExpect(status().isCreated());
+    }
+
+    private void assertCounts(Gallery gallery, int followingCount, int followerCount) {
+        Gallery foundGallery = galleryRepository.findById(gallery.getGalleryId()).get();
+        assertThat(foundGallery.getFollowingCount()).isEqualTo(followingCount);
+        assertThat(foundGallery.getFollowerCount()).isEqualTo(followerCount);
+    }
+
+    private Member saveMember(String name) {
+        return memberRepository.save(Member.builder()
+                .nickname(name)
+                .email(name + "@gmail.com")
+                .profile("/path/" + name)
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+    }
+
+    private Gallery saveGallery(Member member) {
+        return galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(member)
+                .status(GalleryStatus.OPEN)
+                .build());
+    }
+}
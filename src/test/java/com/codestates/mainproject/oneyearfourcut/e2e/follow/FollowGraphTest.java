@@ -0,0 +1,231 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.follow;
+
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.entity.Follow;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowGraphRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 팔로우 변경이 메모리 팔로우 그래프에 반영되고, 그래프 기준으로 중복 팔로우와 맞팔 여부를 처리하는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class FollowGraphTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private FollowGraphRepository followGraphRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+
+    private Member ownerMember;
+    private Member followMember;
+    private Gallery ownerGallery;
+    private Gallery followGallery;
+
+    @BeforeEach
+    void setUp() {
+        ownerMember = saveMember("owner");
+        followMember = saveMember("follow");
+        ownerGallery = saveGallery(ownerMember);
+        followGallery = saveGallery(followMember);
+    }
+
+    @AfterEach
+    void clear() {
+        alarmRepository.deleteAll();
+        followRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+        followGraphRepository.load();
+    }
+
+    @DisplayName("팔로우 하면 그래프에 반영되고, 같은 회원을 다시 팔로우 하면 DB 조회 없이 거절된다.")
+    @Test
+    void followTest() throws Exception {
+        //when
+        follow(followMember, ownerGallery)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.isFollowTogetherCheck").value(false));
+
+        //then
+        assertThat(followGraphRepository.isFollowing(followMember.getMemberId(), ownerMember.getMemberId())).isTrue();
+        assertThat(followGraphRepository.isFollowing(ownerMember.getMemberId(), followMember.getMemberId())).isFalse();
+        assertThat(followGraphRepository.getFollowerCount(ownerMember.getMemberId())).isEqualTo(1);
+        assertThat(followGraphRepository.getFollowingCount(followMember.getMemberId())).isEqualTo(1);
+
+        follow(followMember, ownerGallery)
+                .andExpect(jsonPath("$.status").value(ExceptionCode.ALREADY_FOLLOWED.getStatus()))
+                .andExpect(jsonPath("$.exception").value(ExceptionCode.ALREADY_FOLLOWED.name()));
+        assertThat(followRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("맞팔로우 하면 양쪽 follow의 맞팔 여부가 true가 되고, 언팔로우 하면 그래프와 상대 follow의 맞팔 여부가 같이 바뀐다.")
+    @Test
+    void mutualFollowTest() throws Exception {
+        //given
+        follow(followMember, ownerGallery).andExpect(status().isCreated());
+
+        //when
+        follow(ownerMember, followGallery)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.isFollowTogetherCheck").value(true));
+
+        //then
+        assertThat(followGraphRepository.isMutual(ownerMember.getMemberId(), followMember.getMemberId())).isTrue();
+        assertThat(followRepository.findAll()).extracting(Follow::getIsFollowTogetherCheck).containsOnly(true);
+
+        //when
+        mockMvc.perform(delete("/galleries/{gallery-id}/follows", followGallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(ownerMember)))
+                .andExpect(status().isNoContent());
+
+        //then
+        assertThat(followGraphRepository.isMutual(ownerMember.getMemberId(), followMember.getMemberId())).isFalse();
+        assertThat(followGraphRepository.isFollowing(followMember.getMemberId(), ownerMember.getMemberId())).isTrue();
+        assertThat(followRepository.findAll())
+                .singleElement()
+                .extracting(Follow::getIsFollowTogetherCheck)
+                .isEqualTo(false);
+    }
+
+    @DisplayName("그래프는 follow 테이블 기준으로 다시 적재된다.")
+    @Test
+    void loadTest() throws Exception {
+        //given
+        followRepository.save(Follow.builder()
+                .member(followMember)
+                .followMemberId(ownerMember.getMemberId())
+                .gallery(ownerGallery)
+                .isFollowTogetherCheck(false)
+                .build());
+        assertThat(followGraphRepository.isFollowing(followMember.getMemberId(), ownerMember.getMemberId())).isFalse();
+
+        //when
+        followGraphRepository.load();
+
+        //then
+        assertThat(followGraphRepository.isFollowing(followMember.getMemberId(), ownerMember.getMemberId())).isTrue();
+        assertThat(followGraphRepository.getFollowerCount(ownerMember.getMemberId())).isEqualTo(1);
+    }
+
+    @DisplayName("인덱스 범위를 넘는 회원 id의 팔로우는 적재에서 제외되고 나머지는 정상 적재된다.")
+    @Test
+    void loadOutOfRangeTest() throws Exception {
+        //given
+        long outOfRangeId = Integer.MAX_VALUE + 1L;
+        followRepository.save(Follow.builder()
+                .member(followMember)
+                .followMemberId(ownerMember.getMemberId())
+                .gallery(ownerGallery)
+                .isFollowTogetherCheck(false)
+                .build());
+        followRepository.save(Follow.builder()
+                .member(followMember)
+                .followMemberId(outOfRangeId)
+                .gallery(ownerGallery)
+                .isFollowTogetherCheck(false)
+                .build());
+
+        //when
+        followGraphRepository.load();
+
+        //then
+        assertThat(followGraphRepository.isFollowing(followMember.getMemberId(), ownerMember.getMemberId())).isTrue();
+        assertThat(followGraphRepository.isFollowing(followMember.getMemberId(), outOfRangeId)).isFalse();
+        assertThat(followGraphRepository.getFollowingCount(followMember.getMemberId())).isEqualTo(1);
+    }
+
+    @DisplayName("한 회원에게 팔로우와 언팔로우가 동시에 몰려도 팔로잉, 팔로워 수가 맞는다.")
+    @Test
+    void concurrentFollowTest() throws Exception {
+        //given
+        long popularId = ownerMember.getMemberId();
+        long firstFollowerId = followMember.getMemberId() + 1000;
+
+        //when
+        //팔로워마다 팔로우, 언팔로우, 팔로우 (최종 상태는 팔로우)
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (long followerId = firstFollowerId; followerId < firstFollowerId + 200; followerId++) {
+            long memberId = followerId;
+            futures.add(executor.submit(() -> {
+                followGraphRepository.addFollow(memberId, popularId);
+                followGraphRepository.removeFollow(memberId, popularId);
+                followGraphRepository.addFollow(memberId, popularId);
+                followGraphRepository.addFollow(popularId, memberId);   //반대 방향 팔로우도 함께
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(followGraphRepository.getFollowerCount(popularId)).isEqualTo(200);
+        assertThat(followGraphRepository.getFollowingCount(popularId)).isEqualTo(200);
+        assertThat(followGraphRepository.isMutual(popularId, firstFollowerId)).isTrue();
+    }
+
+    private ResultActions follow(Member member, Gallery gallery) throws Exception {
+        return mockMvc.perform(post("/galleries/{gallery-id}/follows", gallery.getGalleryId())
+                .header("Authorization", jwtTokenizer.testJwtGenerator(member)));
+    }
+
+    private Member saveMember(String name) {
+        return memberRepository.save(Member.builder()
+                .nickname(name)
+                .email(name + "@gmail.com")
+                .profile("/path/" + name)
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+    }
+
+    private Gallery saveGallery(Member member) {
+        return galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(member)
+                .status(GalleryStatus.OPEN)
+                .build());
+    }
+}
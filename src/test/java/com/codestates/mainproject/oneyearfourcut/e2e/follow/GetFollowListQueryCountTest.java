@@ -0,0 +1,184 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.follow;
+
+import com.codestates.mainproject.oneyearfourcut.domain.follow.entity.Follow;
+import com.codestates.mainproject.oneyearfourcut.domain.follow.repository.FollowRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import com.jayway.jsonpath.JsonPath;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codestates.mainproject.oneyearfourcut.global.util.QueryCountUtils.getStatistics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 팔로잉, 팔로워 리스트가 팔로우 수와 상관없이 커서 페이지마다 정해진 수의 SQL로 조회되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("query-count")
+@AutoConfigureMockMvc
+public class GetFollowListQueryCountTest {
+    private static final int FOLLOW_SIZE = 1000;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Gallery ownerGallery;
+
+    //전시관 주인과 회원 1,000명이 서로 팔로우 (회원마다 오픈된 전시관 하나)
+    @BeforeEach
+    void setUp() {
+        Member ownerMember = memberRepository.save(newMember("owner"));
+        ownerGallery = galleryRepository.save(newGallery(ownerMember));
+
+        List<Member> memberList = new ArrayList<>();
+        for (int i = 0; i < FOLLOW_SIZE; i++) {
+            memberList.add(newMember("member" + i));
+        }
+        memberList = memberRepository.saveAll(memberList);
+        List<Gallery> galleryList = new ArrayList<>();
+        memberList.forEach(member -> galleryList.add(newGallery(member)));
+        galleryRepository.saveAll(galleryList);
+
+        List<Follow> followList = new ArrayList<>();
+        for (int i = 0; i < FOLLOW_SIZE; i++) {
+            Member member = memberList.get(i);
+            followList.add(Follow.builder()
+                    .member(ownerMember)
+                    .followMemberId(member.getMemberId())
+                    .gallery(galleryList.get(i))
+                    .isFollowTogetherCheck(true)
+                    .build());
+            followList.add(Follow.builder()
+                    .member(member)
+                    .followMemberId(ownerMember.getMemberId())
+                    .gallery(ownerGallery)
+                    .isFollowTogetherCheck(true)
+                    .build());
+        }
+        followRepository.saveAll(followList);
+    }
+
+    @AfterEach
+    void clear() {
+        followRepository.deleteAllInBatch();
+        galleryRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("팔로잉 리스트는 최신 팔로우순으로 size개씩, 페이지마다 전시관 조회와 리스트 조회 SQL 두 번으로 조회된다.")
+    @Test
+    void followingListQueryCountTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        String firstPage = mockMvc.perform(get("/galleries/{gallery-id}/followings", ownerGallery.getGalleryId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.galleryId").value(ownerGallery.getGalleryId()))
+                .andExpect(jsonPath("$.followList.length()").value(20))
+                .andExpect(jsonPath("$.followList[0].galleryTitle").value("gallery title"))
+                .andExpect(jsonPath("$.followList[0].galleryMemberNickname").value("member" + (FOLLOW_SIZE - 1)))
+                .andExpect(jsonPath("$.followList[0].profile").value("/path/member" + (FOLLOW_SIZE - 1)))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        //then
+        statistics.clear();
+        mockMvc.perform(get("/galleries/{gallery-id}/followings", ownerGallery.getGalleryId())
+                        .param("cursor", (String) JsonPath.read(firstPage, "$.pageInfo.nextCursor")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.followList.length()").value(20))
+                .andExpect(jsonPath("$.followList[0].galleryMemberNickname").value("member" + (FOLLOW_SIZE - 21)));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("팔로워 리스트는 팔로워의 오픈된 전시관까지 최대 크기 이하로 나눠서, 페이지마다 SQL 두 번으로 조회된다.")
+    @Test
+    void followerListQueryCountTest() throws Exception {
+        //given
+        Statistics statistics = getStatistics(entityManagerFactory);
+
+        //when
+        String firstPage = mockMvc.perform(get("/galleries/{gallery-id}/followers", ownerGallery.getGalleryId())
+                        .param("size", String.valueOf(FOLLOW_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.followList.length()").value(50))
+                .andExpect(jsonPath("$.followList[0].galleryId").isNumber())
+                .andExpect(jsonPath("$.followList[0].galleryTitle").value("gallery title"))
+                .andExpect(jsonPath("$.followList[0].galleryMemberNickname").value("member" + (FOLLOW_SIZE - 1)))
+                .andExpect(jsonPath("$.followList[0].isFollowTogetherCheck").value(true))
+                .andExpect(jsonPath("$.pageInfo.size").value(50))
+                .andExpect(jsonPath("$.pageInfo.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        //then
+        statistics.clear();
+        mockMvc.perform(get("/galleries/{gallery-id}/followers", ownerGallery.getGalleryId())
+                        .param("cursor", (String) JsonPath.read(firstPage, "$.pageInfo.nextCursor"))
+                        .param("size", String.valueOf(FOLLOW_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.followList.length()").value(50))
+                .andExpect(jsonPath("$.followList[0].galleryMemberNickname").value("member" + (FOLLOW_SIZE - 51)));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("잘못된 커서는 INVALID_CURSOR로 응답한다.")
+    @Test
+    void invalidCursorTest() throws Exception {
+        mockMvc.perform(get("/galleries/{gallery-id}/followers", ownerGallery.getGalleryId())
+                        .param("cursor", "invalid cursor"))
+                .andExpect(jsonPath("$.status").value(ExceptionCode.INVALID_CURSOR.getStatus()))
+                .andExpect(jsonPath("$.exception").value(ExceptionCode.INVALID_CURSOR.name()));
+    }
+
+    private Member newMember(String name) {
+        return Member.builder()
+                .nickname(name)
+                .email(name + "@gmail.com")
+                .profile("/path/" + name)
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build();
+    }
+
+    private Gallery newGallery(Member member) {
+        return Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(member)
+                .status(GalleryStatus.OPEN)
+                .build();
+    }
+}
@@ -0,0 +1,217 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.gallery;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.service.ArtworkLikeFlushService;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.service.LikeAlarmFlushService;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.dto.CommentRequestDto;
+import com.codestates.mainproject.oneyearfourcut.domain.comment.repository.CommentRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.dto.GalleryActivityDto;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.service.GalleryActivityFlushService;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커밋된 새 댓글, 좋아요 수 변경이 전송 주기마다 전시관 활동 토픽으로 한 번에 전송되는지 확인
+ */
+@SpringBootTest(properties = {
+        "gallery.activity.flush-interval-millis=3600000", //전송은 테스트에서 직접 처리
+        "like.flush.interval-millis=3600000",
+        "alarm.like.flush-interval-millis=3600000"
+})
+@AutoConfigureMockMvc
+public class GalleryActivityTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private Gson gson;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ArtworkLikeRepository artworkLikeRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private ArtworkLikeFlushService artworkLikeFlushService;
+    @Autowired
+    private LikeAlarmFlushService likeAlarmFlushService;
+    @Autowired
+    private GalleryActivityFlushService galleryActivityFlushService;
+    @SpyBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    private Member viewer;
+    private Gallery savedGallery;
+    private Artwork savedArtwork;
+
+    @BeforeEach
+    void setUp() {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        savedGallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+        Artwork artwork = Artwork.builder()
+                .title("artwork title")
+                .content("artwork content")
+                .build();
+        artwork.setImagePath("/path/artwork");
+        artwork.setGallery(savedGallery);
+        artwork.setMember(galleryMember);
+        savedArtwork = artworkRepository.save(artwork);
+
+        viewer = memberRepository.save(Member.builder()
+                .nickname("viewer")
+                .email("viewer@gmail.com")
+                .profile("/path/viewer")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        galleryActivityFlushService.flush(); //이전 테스트에서 남은 활동 비우기
+    }
+
+    @AfterEach
+    void clear() {
+        artworkLikeFlushService.flush();
+        likeAlarmFlushService.flushAll();
+        alarmRepository.deleteAll();
+        artworkLikeRepository.deleteAll();
+        commentRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("전송 주기 동안의 새 댓글과 좋아요 수가 전시관 활동 토픽으로 한 번에 전송된다.")
+    @Test
+    void activityTest() throws Exception {
+        //given
+        String jwt = jwtTokenizer.testJwtGenerator(viewer);
+        mockMvc.perform(post("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .header("Authorization", jwt)
+                        .content(gson.toJson(CommentRequestDto.builder().content("comment content").build()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+        for (int i = 0; i < 3; i++) {   //좋아요, 취소, 좋아요
+            mockMvc.perform(put("/galleries/{gallery-id}/artworks/{artwork-id}/likes",
+                            savedGallery.getGalleryId(), savedArtwork.getArtworkId())
+                            .header("Authorization", jwt))
+                    .andExpect(status().isOk());
+        }
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+
+        //when
+        galleryActivityFlushService.flush();
+
+        //then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(
+                eq("/sub/galleries/" + savedGallery.getGalleryId() + "/activity"), payload.capture());
+        GalleryActivityDto activity = (GalleryActivityDto) payload.getValue();
+        assertThat(activity.getCommentList())
+                .singleElement()
+                .satisfies(comment -> {
+                    assertThat(comment.getContent()).isEqualTo("comment content");
+                    assertThat(comment.getNickname()).isEqualTo("viewer");
+                });
+        assertThat(activity.getLikeCountList())
+                .singleElement()
+                .satisfies(likeCount -> {
+                    assertThat(likeCount.getArtworkId()).isEqualTo(savedArtwork.getArtworkId());
+                    assertThat(likeCount.getLikeCount()).isEqualTo(1);
+                });
+        assertThat(activity.getArtworkList()).isEmpty();
+    }
+
+    @DisplayName("작품 댓글은 활동 토픽에도 작품 id와 작품 이미지 경로가 함께 전송된다.")
+    @Test
+    void artworkCommentActivityTest() throws Exception {
+        //given
+        mockMvc.perform(post("/galleries/{gallery-id}/artworks/{artwork-id}/comments",
+                        savedGallery.getGalleryId(), savedArtwork.getArtworkId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(viewer))
+                        .content(gson.toJson(CommentRequestDto.builder().content("artwork comment").build()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+
+        //when
+        galleryActivityFlushService.flush();
+
+        //then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(
+                eq("/sub/galleries/" + savedGallery.getGalleryId() + "/activity"), payload.capture());
+        GalleryActivityDto activity = (GalleryActivityDto) payload.getValue();
+        assertThat(activity.getCommentList())
+                .singleElement()
+                .satisfies(comment -> {
+                    assertThat(comment.getContent()).isEqualTo("artwork comment");
+                    assertThat(comment.getArtworkId()).isEqualTo(savedArtwork.getArtworkId());
+                    assertThat(comment.getImagePath()).isEqualTo("/path/artwork");
+                });
+    }
+
+    @DisplayName("등록에 실패한 댓글은 전송되지 않는다.")
+    @Test
+    void rollbackTest() throws Exception {
+        //given
+        mockMvc.perform(post("/galleries/{gallery-id}/comments", savedGallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(viewer))
+                        .content(gson.toJson(CommentRequestDto.builder().content(" ").build()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        //when
+        galleryActivityFlushService.flush();
+
+        //then
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,177 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.gallery;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 전시관 버전 ETag로 조건부 조회(304)가 되고, 변경 후에는 새 응답이 내려가는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class GetGalleryConditionalTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private ArtworkLikeRepository artworkLikeRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+
+    private Member galleryMember;
+    private Member likeMember;
+    private Gallery gallery;
+    private Artwork artwork;
+
+    @BeforeEach
+    void setUp() {
+        galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        likeMember = memberRepository.save(Member.builder()
+                .nickname("like Member")
+                .email("like@gmail.com")
+                .profile("/path/like")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        gallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+
+        artwork = Artwork.builder()
+                .title("artwork title")
+                .content("artwork content")
+                .build();
+        artwork.setImagePath("/path/artwork");
+        artwork.setMember(galleryMember);
+        artwork.setGallery(gallery);
+        artwork = artworkRepository.save(artwork);
+    }
+
+    @AfterEach
+    void clear() {
+        alarmRepository.deleteAll();
+        artworkLikeRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("같은 ETag로 다시 조회하면 304, 전시관을 수정하면 새 ETag와 수정된 내용으로 응답한다.")
+    @Test
+    void galleryNotModifiedTest() throws Exception {
+        //given
+        String eTag = mockMvc.perform(get("/galleries/{gallery-id}", gallery.getGalleryId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(result -> assertThat(result.getResponse().getHeaders(HttpHeaders.ETAG)).hasSize(1))
+                .andExpect(jsonPath("$.title").value("gallery title"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when
+        mockMvc.perform(get("/galleries/{gallery-id}", gallery.getGalleryId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/galleries/me")
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(galleryMember))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"modified title\"}"))
+                .andExpect(status().isOk());
+
+        //then
+        String modifiedETag = mockMvc.perform(get("/galleries/{gallery-id}", gallery.getGalleryId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("modified title"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(modifiedETag).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("비회원 작품 목록은 좋아요 전까지 304, 좋아요 후에는 바뀐 좋아요 수로 응답한다.")
+    @Test
+    void artworksNotModifiedTest() throws Exception {
+        //given
+        String eTag = mockMvc.perform(get("/galleries/{gallery-id}/artworks", gallery.getGalleryId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].likeCount").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        //when
+        mockMvc.perform(put("/galleries/{gallery-id}/artworks/{artwork-id}/likes",
+                        gallery.getGalleryId(), artwork.getArtworkId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(likeMember)))
+                .andExpect(status().isOk());
+
+        //then
+        mockMvc.perform(get("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].likeCount").value(1));
+    }
+
+    @DisplayName("회원 작품 목록의 ETag는 비회원, 다른 회원의 ETag와 겹치지 않는다.")
+    @Test
+    void memberETagTest() throws Exception {
+        //given
+        String anonymousETag = mockMvc.perform(get("/galleries/{gallery-id}/artworks", gallery.getGalleryId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when
+        //then
+        mockMvc.perform(get("/galleries/{gallery-id}/artworks", gallery.getGalleryId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(likeMember))
+                        .header(HttpHeaders.IF_NONE_MATCH, anonymousETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].liked").value(false));
+    }
+}
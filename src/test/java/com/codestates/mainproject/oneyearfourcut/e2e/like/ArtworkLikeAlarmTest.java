@@ -0,0 +1,192 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.like;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.service.ArtworkLikeFlushService;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.Alarm;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.entity.AlarmType;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.service.LikeAlarmFlushService;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 집계 구간 동안 들어온 좋아요가 받는 회원마다 알림 하나로 합쳐지는지 확인
+ */
+@SpringBootTest(properties = {
+        "alarm.like.window=0s",
+        "alarm.like.flush-interval-millis=3600000" //저장은 테스트에서 직접 처리
+})
+@AutoConfigureMockMvc
+public class ArtworkLikeAlarmTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private ArtworkLikeRepository artworkLikeRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private ArtworkLikeFlushService artworkLikeFlushService;
+    @Autowired
+    private LikeAlarmFlushService likeAlarmFlushService;
+
+    private Member galleryMember;
+    private Member artworkMember;
+    private Gallery gallery;
+    private Artwork artwork;
+    private List<Member> likeMembers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        gallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+        artworkMember = memberRepository.save(Member.builder()
+                .nickname("artwork Writer")
+                .email("artwork@gmail.com")
+                .profile("/path/artwork")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        Artwork newArtwork = Artwork.builder()
+                .title("artwork title")
+                .content("artwork content")
+                .build();
+        newArtwork.setImagePath("/path/artwork");
+        newArtwork.setGallery(gallery);
+        newArtwork.setMember(artworkMember);
+        artwork = artworkRepository.save(newArtwork);
+
+        for (int i = 0; i < 5; i++) {
+            likeMembers.add(memberRepository.save(Member.builder()
+                    .nickname("like" + i)
+                    .email("like" + i + "@gmail.com")
+                    .profile("/path/like")
+                    .role(Role.USER)
+                    .status(MemberStatus.ACTIVE)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        likeAlarmFlushService.flushAll();
+        artworkLikeFlushService.flush();
+        alarmRepository.deleteAll();
+        artworkLikeRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+        likeMembers.clear();
+    }
+
+    @DisplayName("구간 동안의 좋아요는 전시관 주인, 작품 주인에게 각각 알림 하나로 저장되고 누른 회원 수와 최근 회원이 담긴다.")
+    @Test
+    void coalesceTest() throws Exception {
+        //given
+        for (Member likeMember : likeMembers) {
+            putLike(likeMember);
+        }
+        //0번 회원은 취소 후 다시 눌러도 한 명으로 셈 (가장 최근에 누른 회원이 됨)
+        putLike(likeMembers.get(0));
+        putLike(likeMembers.get(0));
+        assertThat(alarmRepository.count()).isZero();
+
+        //when
+        likeAlarmFlushService.flush();
+
+        //then
+        List<Alarm> alarmList = alarmRepository.findAll();
+        assertThat(alarmList).hasSize(2)
+                .extracting(alarm -> alarm.getMember().getMemberId())
+                .containsExactlyInAnyOrder(galleryMember.getMemberId(), artworkMember.getMemberId());
+        for (Alarm alarm : alarmList) {
+            assertThat(alarm.getAlarmType()).isEqualTo(AlarmType.LIKE_ARTWORK);
+            assertThat(alarm.getSenderCount()).isEqualTo(5);
+            assertThat(alarm.getSenderId()).isEqualTo(likeMembers.get(0).getMemberId());
+            assertThat(alarm.getRecentSenderIdList()).containsExactly(
+                    likeMembers.get(0).getMemberId(),
+                    likeMembers.get(4).getMemberId(),
+                    likeMembers.get(3).getMemberId());
+        }
+
+        mockMvc.perform(get("/members/me/alarms")
+                        .param("filter", "LIKE_ARTWORK")
+                        .param("page", "1")
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(galleryMember)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].userNickname").value("like0"))
+                .andExpect(jsonPath("$[0].senderCount").value(5))
+                .andExpect(jsonPath("$[0].recentUserNicknames[0]").value("like0"))
+                .andExpect(jsonPath("$[0].recentUserNicknames[1]").value("like4"))
+                .andExpect(jsonPath("$[0].recentUserNicknames[2]").value("like3"));
+    }
+
+    @DisplayName("구간이 끝난 뒤에 들어온 좋아요는 다음 알림으로 저장된다.")
+    @Test
+    void nextWindowTest() throws Exception {
+        //given
+        putLike(likeMembers.get(0));
+        likeAlarmFlushService.flush();
+
+        //when
+        putLike(likeMembers.get(1));
+        likeAlarmFlushService.flush();
+
+        //then
+        assertThat(alarmRepository.findAll())
+                .filteredOn(alarm -> alarm.getMember().getMemberId().equals(galleryMember.getMemberId()))
+                .extracting(Alarm::getSenderId)
+                .containsExactlyInAnyOrder(likeMembers.get(0).getMemberId(), likeMembers.get(1).getMemberId());
+    }
+
+    private void putLike(Member member) throws Exception {
+        mockMvc.perform(put("/galleries/{gallery-id}/artworks/{artwork-id}/likes",
+                        gallery.getGalleryId(), artwork.getArtworkId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(member)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,268 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.like;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.ArtworkLike;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.LikeStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeLogRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeIndexRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeWriteBuffer;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.service.ArtworkLikeFlushService;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 좋아요 토글이 메모리에 먼저 반영되고, flush 또는 로그 복구로 DB에 저장되는지 확인
+ */
+@SpringBootTest(properties = {
+        "like.log.path=${java.io.tmpdir}/oyfc-test-like-write-behind", //다른 컨텍스트의 로그 디렉토리(oyfc-test-like-log)와 겹치지 않도록
+        "like.flush.interval-millis=3600000" //저장은 테스트에서 직접 처리
+})
+@AutoConfigureMockMvc
+public class ArtworkLikeWriteBehindTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private ArtworkLikeRepository artworkLikeRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private ArtworkLikeFlushService artworkLikeFlushService;
+    @Autowired
+    private ArtworkLikeLogRepository artworkLikeLogRepository;
+    @Autowired
+    private ArtworkLikeWriteBuffer artworkLikeWriteBuffer;
+    @Autowired
+    private ArtworkLikeIndexRepository artworkLikeIndexRepository;
+    @Value("${like.log.path}")
+    private String logPath;
+
+    private Gallery gallery;
+    private Artwork artwork;
+    private List<Member> likeMembers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        gallery = galleryRepository.save(Gallery.builder()
+                .title("gallery title")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+        Artwork newArtwork = Artwork.builder()
+                .title("artwork title")
+                .content("artwork content")
+                .build();
+        newArtwork.setImagePath("/path/artwork");
+        newArtwork.setGallery(gallery);
+        newArtwork.setMember(galleryMember);
+        artwork = artworkRepository.save(newArtwork);
+
+        for (int i = 0; i < 3; i++) {
+            likeMembers.add(memberRepository.save(Member.builder()
+                    .nickname("like" + i)
+                    .email("like" + i + "@gmail.com")
+                    .profile("/path/like")
+                    .role(Role.USER)
+                    .status(MemberStatus.ACTIVE)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void clear() throws Exception {
+        artworkLikeFlushService.flush();
+        alarmRepository.deleteAll();
+        artworkLikeRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+        likeMembers.clear();
+        FileSystemUtils.deleteRecursively(Paths.get(logPath));
+    }
+
+    @DisplayName("좋아요는 저장 전에도 조회에 반영되고, flush 하면 최종 상태와 좋아요 수가 한 번에 저장된다.")
+    @Test
+    void flushTest() throws Exception {
+        //given
+        for (Member likeMember : likeMembers) {
+            putLike(likeMember);
+        }
+        putLike(likeMembers.get(0)); //첫 번째 회원은 다시 눌러서 취소
+
+        //when
+        //저장 전에는 DB에 없지만 토글한 회원은 바뀐 상태를 봄
+        assertThat(artworkLikeRepository.count()).isZero();
+        assertThat(artworkLikeLogRepository.findSegments()).isEmpty(); //기록 중인 파일은 제외
+        mockMvc.perform(get("/galleries/{gallery-id}/artworks/{artwork-id}",
+                        gallery.getGalleryId(), artwork.getArtworkId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(likeMembers.get(1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.likeCount").value(2))
+                .andExpect(jsonPath("$.liked").value(true));
+
+        artworkLikeFlushService.flush();
+
+        //then
+        assertThat(artworkLikeRepository.findAll())
+                .hasSize(3)
+                .filteredOn(like -> like.getStatus() == LikeStatus.LIKE)
+                .hasSize(2);
+        assertThat(artworkRepository.findById(artwork.getArtworkId()).get().getLikeCount()).isEqualTo(2);
+        assertThat(countLogFiles()).isZero();
+    }
+
+    @DisplayName("저장 전에 종료되어 남은 로그 파일은 복구 시 DB에 반영되고 좋아요 수도 다시 집계된다.")
+    @Test
+    void recoverTest() throws Exception {
+        //given
+        //이전 실행에서 저장하지 못한 토글 : 0번 좋아요, 1번 좋아요 후 취소, 2번 좋아요
+        long artworkId = artwork.getArtworkId();
+        Path logDirectory = Files.createDirectories(Paths.get(logPath));
+        Files.writeString(logDirectory.resolve("artwork-like-1.log"),
+                artworkId + "," + likeMembers.get(0).getMemberId() + ",1\n" +
+                artworkId + "," + likeMembers.get(1).getMemberId() + ",1\n");
+        Files.writeString(logDirectory.resolve("artwork-like-2.log"),
+                artworkId + "," + likeMembers.get(1).getMemberId() + ",0\n" +
+                artworkId + "," + likeMembers.get(2).getMemberId() + ",1\n" +
+                artworkId + ",99"); //기록 도중 끊긴 줄
+
+        //when
+        artworkLikeFlushService.recover();
+
+        //then
+        assertThat(artworkLikeRepository.findAll())
+                .hasSize(3)
+                .filteredOn(like -> like.getStatus() == LikeStatus.LIKE)
+                .hasSize(2);
+        assertThat(artworkRepository.findById(artworkId).get().getLikeCount()).isEqualTo(2);
+        assertThat(countLogFiles()).isZero();
+    }
+
+    @DisplayName("한 작품에 여러 회원의 토글이 동시에 몰려도 좋아요 수와 저장된 상태가 맞는다.")
+    @Test
+    void concurrentToggleTest() throws Exception {
+        //given
+        for (int i = 3; i < 30; i++) {
+            likeMembers.add(memberRepository.save(Member.builder()
+                    .nickname("like" + i)
+                    .email("like" + i + "@gmail.com")
+                    .profile("/path/like")
+                    .role(Role.USER)
+                    .status(MemberStatus.ACTIVE)
+                    .build()));
+        }
+        long artworkId = artwork.getArtworkId();
+
+        //when
+        //회원마다 세 번씩 토글 (최종 상태는 좋아요)
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Member likeMember : likeMembers) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 3; i++) {
+                    artworkLikeWriteBuffer.toggle(artworkId, likeMember.getMemberId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        artworkLikeFlushService.flush();
+
+        //then
+        assertThat(artworkLikeIndexRepository.getLikeCount(artworkId)).isEqualTo(likeMembers.size());
+        assertThat(artworkLikeRepository.findAll())
+                .hasSize(likeMembers.size())
+                .allMatch(like -> like.getStatus() == LikeStatus.LIKE);
+        assertThat(artworkRepository.findById(artworkId).get().getLikeCount()).isEqualTo(likeMembers.size());
+    }
+
+    @DisplayName("같은 회원은 같은 작품에 좋아요 행을 하나만 가지고, 다시 누르면 그 행의 상태만 바뀐다.")
+    @Test
+    void uniqueLikeTest() throws Exception {
+        //given
+        Member likeMember = likeMembers.get(0);
+        artworkLikeRepository.save(ArtworkLike.builder().member(likeMember).artwork(artwork).build());
+
+        //when, then
+        assertThatThrownBy(() -> artworkLikeRepository.save(
+                ArtworkLike.builder().member(likeMember).artwork(artwork).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        putLike(likeMember); //이미 저장된 좋아요를 취소
+        artworkLikeFlushService.flush();
+        assertThat(artworkLikeRepository.findAll())
+                .singleElement()
+                .extracting(ArtworkLike::getStatus)
+                .isEqualTo(LikeStatus.CANCEL);
+    }
+
+    private void putLike(Member member) throws Exception {
+        mockMvc.perform(put("/galleries/{gallery-id}/artworks/{artwork-id}/likes",
+                        gallery.getGalleryId(), artwork.getArtworkId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(member)))
+                .andExpect(status().isOk());
+    }
+
+    private long countLogFiles() throws Exception {
+        Path logDirectory = Paths.get(logPath);
+        if (!Files.exists(logDirectory)) {
+            return 0;
+        }
+        try (var files = Files.list(logDirectory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.codestates.mainproject.oneyearfourcut.e2e.like;
+
+import com.codestates.mainproject.oneyearfourcut.domain.Like.dto.ArtworkLikeStateRequestDto;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.ArtworkLike;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.service.ArtworkLikeFlushService;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.alarm.service.LikeAlarmFlushService;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
+import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.Gallery;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.entity.GalleryStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.gallery.repository.GalleryRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Member;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.MemberStatus;
+import com.codestates.mainproject.oneyearfourcut.domain.member.entity.Role;
+import com.codestates.mainproject.oneyearfourcut.domain.member.repository.MemberRepository;
+import com.codestates.mainproject.oneyearfourcut.global.config.auth.jwt.JwtTokenizer;
+import com.codestates.mainproject.oneyearfourcut.global.exception.exception.ExceptionCode;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PostArtworkLikeStateTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private Gson gson;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GalleryRepository galleryRepository;
+    @Autowired
+    private ArtworkRepository artworkRepository;
+    @Autowired
+    private ArtworkLikeRepository artworkLikeRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ArtworkLikeFlushService artworkLikeFlushService;
+    @Autowired
+    private LikeAlarmFlushService likeAlarmFlushService;
+
+    private Member likeMember;
+    private Gallery openGallery;
+    private Artwork savedLikeArtwork;   //DB에만 좋아요가 있는 작품 (인덱스에 적재되지 않음)
+    private Artwork toggledArtwork;     //저장 전 토글만 있는 작품
+    private Artwork closedArtwork;
+
+    @BeforeEach
+    void setUp() {
+        Member galleryMember = memberRepository.save(Member.builder()
+                .nickname("gallery Writer")
+                .email("gallery@gmail.com")
+                .profile("/path/gallery")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        likeMember = memberRepository.save(Member.builder()
+                .nickname("like Writer")
+                .email("like@gmail.com")
+                .profile("/path/like")
+                .role(Role.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+        openGallery = galleryRepository.save(Gallery.builder()
+                .title("open gallery")
+                .content("gallery content")
+                .member(galleryMember)
+                .status(GalleryStatus.OPEN)
+                .build());
+        Gallery closedGallery = galleryRepository.save(Gallery.builder()
+                .title("closed gallery")
+                .content("gallery content")
+                .member(likeMember)
+                .status(GalleryStatus.CLOSED)
+                .build());
+
+        savedLikeArtwork = saveArtwork(openGallery, galleryMember, "/path/saved");
+        toggledArtwork = saveArtwork(openGallery, galleryMember, "/path/toggled");
+        closedArtwork = saveArtwork(closedGallery, likeMember, "/path/closed");
+
+        artworkLikeRepository.save(ArtworkLike.builder().member(likeMember).artwork(savedLikeArtwork).build());
+        jdbcTemplate.update("UPDATE artwork SET like_count = 1 WHERE artwork_id = ?", savedLikeArtwork.getArtworkId());
+    }
+
+    @AfterEach
+    void clear() {
+        artworkLikeFlushService.flush();
+        likeAlarmFlushService.flushAll();
+        alarmRepository.deleteAll();
+        artworkLikeRepository.deleteAll();
+        artworkRepository.deleteAll();
+        galleryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("저장된 좋아요와 저장 전 토글이 모두 반영되고, 없거나 닫힌 전시관의 작품은 빠진 채 요청 순서대로 조회된다.")
+    @Test
+    void successTest() throws Exception {
+        //given
+        mockMvc.perform(put("/galleries/{gallery-id}/artworks/{artwork-id}/likes",
+                        openGallery.getGalleryId(), toggledArtwork.getArtworkId())
+                        .header("Authorization", jwtTokenizer.testJwtGenerator(likeMember)))
+                .andExpect(status().isOk());
+
+        //when
+        ResultActions actions = postLikeState(jwtTokenizer.testJwtGenerator(likeMember),
+                List.of(toggledArtwork.getArtworkId(), savedLikeArtwork.getArtworkId(),
+                        closedArtwork.getArtworkId(), 999999L, toggledArtwork.getArtworkId()));
+
+        //then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].artworkId").value(toggledArtwork.getArtworkId()))
+                .andExpect(jsonPath("$[0].likeCount").value(1))
+                .andExpect(jsonPath("$[0].liked").value(true))
+                .andExpect(jsonPath("$[1].artworkId").value(savedLikeArtwork.getArtworkId()))
+                .andExpect(jsonPath("$[1].likeCount").value(1))
+                .andExpect(jsonPath("$[1].liked").value(true));
+    }
+
+    @DisplayName("비회원은 좋아요 수만 조회되고 좋아요 여부는 false다.")
+    @Test
+    void anonymousTest() throws Exception {
+        //when
+        ResultActions actions = postLikeState(null, List.of(savedLikeArtwork.getArtworkId()));
+
+        //then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].likeCount").value(1))
+                .andExpect(jsonPath("$[0].liked").value(false));
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 작품 수를 넘으면 실패한다.")
+    @Test
+    void tooManyArtworkIdsTest() throws Exception {
+        //given
+        List<Long> artworkIds = LongStream.rangeClosed(1, 301).boxed().collect(Collectors.toList());
+
+        //when
+        ResultActions actions = postLikeState(jwtTokenizer.testJwtGenerator(likeMember), artworkIds);
+
+        //then
+        actions.andExpect(jsonPath("$.status").value(ExceptionCode.TOO_MANY_ARTWORK_IDS.getStatus()))
+                .andExpect(jsonPath("$.exception").value(ExceptionCode.TOO_MANY_ARTWORK_IDS.name()));
+    }
+
+    private ResultActions postLikeState(String jwt, List<Long> artworkIds) throws Exception {
+        var request = post("/likes/state")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(gson.toJson(ArtworkLikeStateRequestDto.builder().artworkIds(artworkIds).build()));
+        if (jwt != null) {
+            request.header("Authorization", jwt);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private Artwork saveArtwork(Gallery gallery, Member member, String imagePath) {
+        Artwork artwork = Artwork.builder()
+                .title("artwork title")
+                .content("artwork content")
+                .build();
+        artwork.setImagePath(imagePath);
+        artwork.setGallery(gallery);
+        artwork.setMember(member);
+        return artworkRepository.save(artwork);
+    }
+}
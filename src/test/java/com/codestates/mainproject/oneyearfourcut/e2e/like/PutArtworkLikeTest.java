@@ -3,6 +3,7 @@ package com.codestates.mainproject.oneyearfourcut.e2e.like;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.ArtworkLike;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.entity.LikeStatus;
 import com.codestates.mainproject.oneyearfourcut.domain.Like.repository.ArtworkLikeRepository;
+import com.codestates.mainproject.oneyearfourcut.domain.Like.service.ArtworkLikeFlushService;
 import com.codestates.mainproject.oneyearfourcut.domain.alarm.repository.AlarmRepository;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.entity.Artwork;
 import com.codestates.mainproject.oneyearfourcut.domain.artwork.repository.ArtworkRepository;
@@ -53,6 +54,8 @@ public class PutArtworkLikeTest {
     private AlarmRepository alarmRepository;
     @Autowired
     private JwtTokenizer jwtTokenizer;
+    @Autowired
+    private ArtworkLikeFlushService artworkLikeFlushService;
 
     private Member galleryMember;
     private Member artworkMember;
@@ -123,6 +126,7 @@ public class PutArtworkLikeTest {
                 )
                         .header("Authorization", jwt)
         );
+        artworkLikeFlushService.flush();
         ArtworkLike like = artworkLikeRepository.findByMemberAndArtwork(likeMember, savedArtwork).get();
 
         //then
@@ -151,6 +155,7 @@ public class PutArtworkLikeTest {
                 )
                         .header("Authorization", jwt)
         );
+        artworkLikeFlushService.flush();
         ArtworkLike like = artworkLikeRepository.findByMemberAndArtwork(likeMember, savedArtwork).get();
 
         //then
@@ -0,0 +1,16 @@
+package com.codestates.mainproject.oneyearfourcut.global.util;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManagerFactory;
+
+//query-count 프로필에서 SQL 수를 세는 테스트가 함께 씀
+public interface QueryCountUtils {
+    //지금까지 센 값을 비우고 돌려줌
+    static Statistics getStatistics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}